@@ -1,8 +1,14 @@
 package tictactoe;
 
+import tictactoe.event.GameEventSink;
+import tictactoe.event.Log4jEventSink;
 import tictactoe.game.CommandValidator;
 import tictactoe.game.StartMenu;
+import tictactoe.journal.GameJournal;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -10,14 +16,18 @@ import java.util.Scanner;
 
 public class Main {
     public static void main(String[] args) {
-        List<String> supportedFunctionalCommands = getSupportedFunctionalCommands();
-        List<String> supportedLevelCommands = getSupportedLevelCommands();
-
-        CommandValidator commandValidator = new CommandValidator(supportedLevelCommands, supportedFunctionalCommands);
-
-        StartMenu startMenu = new StartMenu(new Scanner(System.in), commandValidator);
-        startMenu.start();
+        String journalDirectory = System.getProperty("tictactoe.journal");
+        GameEventSink simulationEvents = Boolean.getBoolean("tictactoe.log.simulations")
+                ? new Log4jEventSink()
+                : GameEventSink.NONE;
+        try (GameJournal journal = journalDirectory != null ? new GameJournal(Paths.get(journalDirectory)) : null) {
+            new StartMenu(new Scanner(System.in), createCommandValidator(),
+                    new BufferedWriter(new OutputStreamWriter(System.out)), journal, simulationEvents).start();
+        }
+    }
 
+    public static CommandValidator createCommandValidator() {
+        return new CommandValidator(getSupportedLevelCommands(), getSupportedFunctionalCommands());
     }
 
     //todo read from properties file
@@ -27,6 +37,9 @@ public class Main {
         supportedLevelCommands.add("easy");
         supportedLevelCommands.add("medium");
         supportedLevelCommands.add("hard");
+        supportedLevelCommands.add("ponder");
+        supportedLevelCommands.add("mcts");
+        supportedLevelCommands.add("learned");
         return supportedLevelCommands;
     }
 
@@ -35,6 +48,7 @@ public class Main {
         List<String> supportedFunctionalCommands = new ArrayList<>();
         supportedFunctionalCommands.add("start");
         supportedFunctionalCommands.add("exit");
+        supportedFunctionalCommands.add("simulate");
         return supportedFunctionalCommands;
     }
 
@@ -0,0 +1,206 @@
+package tictactoe.board;
+
+import tictactoe.util.Either;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Width, height and the number of symbols in a row needed to win (the m,n,k of the game).
+ */
+public final class BoardSize {
+    public static final int MAX_SIDE = 32;
+    public static final BoardSize CLASSIC = new BoardSize(3, 3, 3);
+
+    private static final int DEFAULT_WIN_LENGTH = 5;
+    private static final Pattern BOARD_SIZE = Pattern.compile("\\d+x\\d+(x\\d+)?");
+
+    private final int width;
+    private final int height;
+    private final int winLength;
+    private final String outOfRangeMessage;
+    private final CoordinateMapping coordinateMapping;
+    private volatile Symmetry symmetry;
+    private volatile WinLines winLines;
+    private volatile int[] moveOrder;
+
+    private BoardSize(int width, int height, int winLength) {
+        this.width = width;
+        this.height = height;
+        this.winLength = winLength;
+        this.coordinateMapping = new CoordinateMapping(width, height);
+        this.outOfRangeMessage = width == height
+                ? String.format("Coordinate should be from 1 to %d!", width)
+                : String.format("X should be from 1 to %d and Y from 1 to %d!", width, height);
+    }
+
+    public static Either<String, BoardSize> of(int width, int height, int winLength) {
+        if (width < 1 || width > MAX_SIDE || height < 1 || height > MAX_SIDE) {
+            return Either.left(String.format("Board side should be from 1 to %d!", MAX_SIDE));
+        } else if (winLength < 1 || winLength > Math.max(width, height)) {
+            return Either.left(String.format("Win length should be from 1 to %d!", Math.max(width, height)));
+        } else if (width == 3 && height == 3 && winLength == 3) {
+            return Either.right(CLASSIC);
+        }
+        return Either.right(new BoardSize(width, height, winLength));
+    }
+
+    /**
+     * Parses {@code WIDTHxHEIGHT} or {@code WIDTHxHEIGHTxK}, e.g. {@code 15x15x5}.
+     * Without K a line of five wins, or the shorter side on smaller boards.
+     */
+    public static Either<String, BoardSize> fromString(String boardSize) {
+        if (!isBoardSize(boardSize)) {
+            return Either.left("Board size should look like 15x15 or 15x15x5!");
+        }
+
+        String[] split = boardSize.split("x");
+        int width, height;
+        try {
+            width = Integer.parseInt(split[0]);
+            height = Integer.parseInt(split[1]);
+        } catch (NumberFormatException e) {
+            return Either.left(String.format("Board side should be from 1 to %d!", MAX_SIDE));
+        }
+        int winLength = split.length == 3
+                ? parseOrDefault(split[2], -1)
+                : Math.min(DEFAULT_WIN_LENGTH, Math.min(width, height));
+        return of(width, height, winLength);
+    }
+
+    public static boolean isBoardSize(String token) {
+        return token != null && BOARD_SIZE.matcher(token).matches();
+    }
+
+    private static int parseOrDefault(String number, int defaultValue) {
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getCells() {
+        return width * height;
+    }
+
+    String getOutOfRangeMessage() {
+        return outOfRangeMessage;
+    }
+
+    public Coordinate getCoordinate(int cell) {
+        return coordinateMapping.getCoordinate(cell);
+    }
+
+    /**
+     * @return cell index of the coordinate or -1 when it's off this board
+     */
+    public int toCell(Coordinate coordinate) {
+        return coordinateMapping.toCell(coordinate);
+    }
+
+    CoordinateMapping getCoordinateMapping() {
+        return coordinateMapping;
+    }
+
+    Symmetry getSymmetry() {
+        Symmetry result = symmetry;
+        if (result == null) {
+            result = new Symmetry(width, height);
+            symmetry = result;
+        }
+        return result;
+    }
+
+    WinLines getWinLines() {
+        WinLines result = winLines;
+        if (result == null) {
+            result = new WinLines(width, height, winLength);
+            winLines = result;
+        }
+        return result;
+    }
+
+    int[] getMoveOrder() {
+        int[] result = moveOrder;
+        if (result == null) {
+            result = createMoveOrder();
+            moveOrder = result;
+        }
+        return result;
+    }
+
+    private int[] createMoveOrder() {
+        int cells = getCells();
+        long[] priorities = new long[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            int column = cell % width;
+            int row = cell / width;
+            int lines = linesThrough(column, row, 1, 0) + linesThrough(column, row, 0, 1)
+                    + linesThrough(column, row, 1, 1) + linesThrough(column, row, 1, -1);
+            int distance = Math.abs(2 * column - width + 1) + Math.abs(2 * row - height + 1);
+            priorities[cell] = ((long) -lines << 40) + ((long) distance << 20) + cell;
+        }
+        Arrays.sort(priorities);
+
+        int[] order = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            order[i] = (int) (priorities[i] & 0xFFFFF);
+        }
+        return order;
+    }
+
+    // number of winning segments of this direction containing the cell
+    private int linesThrough(int column, int row, int dx, int dy) {
+        int count = 0;
+        for (int start = -(winLength - 1); start <= 0; start++) {
+            int firstColumn = column + start * dx;
+            int firstRow = row + start * dy;
+            int lastColumn = firstColumn + (winLength - 1) * dx;
+            int lastRow = firstRow + (winLength - 1) * dy;
+            if (isOnBoard(firstColumn, firstRow) && isOnBoard(lastColumn, lastRow)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isOnBoard(int column, int row) {
+        return column >= 0 && column < width && row >= 0 && row < height;
+    }
+
+    @Override
+    public String toString() {
+        return width + "x" + height + "x" + winLength;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        BoardSize that = (BoardSize) o;
+
+        return width == that.width && height == that.height && winLength == that.winLength;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = width;
+        result = 31 * result + height;
+        result = 31 * result + winLength;
+        return result;
+    }
+}
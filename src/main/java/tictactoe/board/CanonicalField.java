@@ -0,0 +1,42 @@
+package tictactoe.board;
+
+/**
+ * Representative of all positions equal up to rotation and reflection, together with the transform
+ * that turns the original position into it. Moves found for the canonical field are mapped back
+ * with {@link #toOriginalCell(int)} or {@link #toOriginal(Coordinate)}.
+ */
+public final class CanonicalField {
+    private final Field field;
+    private final int transform;
+    private final Symmetry symmetry;
+
+    CanonicalField(Field field, int transform) {
+        this.field = field;
+        this.transform = transform;
+        this.symmetry = field.getBoardSize().getSymmetry();
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return 0 for the identity, 1-3 for quarter turns clockwise and 4-7 for the same turns followed by a mirror
+     */
+    public int getTransform() {
+        return transform;
+    }
+
+    public int toCanonicalCell(int originalCell) {
+        return symmetry.apply(transform, originalCell);
+    }
+
+    public int toOriginalCell(int canonicalCell) {
+        return symmetry.revert(transform, canonicalCell);
+    }
+
+    public Coordinate toOriginal(Coordinate canonicalMove) {
+        CoordinateMapping coordinateMapping = field.getBoardSize().getCoordinateMapping();
+        return coordinateMapping.getCoordinate(toOriginalCell(coordinateMapping.toCell(canonicalMove)));
+    }
+}
@@ -0,0 +1,248 @@
+package tictactoe.board;
+
+import tictactoe.util.Either;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static tictactoe.board.PositionTable.CELLS;
+import static tictactoe.board.PositionTable.SIZE;
+
+/**
+ * The 3x3 board. There is exactly one instance per position: every position reachable
+ * from the empty board is interned when the class loads, any other one on first use,
+ * so moving never allocates and equality is identity.
+ */
+final class ClassicField extends Field {
+    private static final AtomicReferenceArray<ClassicField> POOL = new AtomicReferenceArray<>(PositionTable.POSITIONS);
+    private static final int REACHABLE_POSITIONS = internReachable(0, 0);
+    // racy but safe, a String rendered twice is equal and immutable
+    private static final String[] RENDERED = new String[PositionTable.POSITIONS];
+
+    private final int xMask;
+    private final int oMask;
+    private final int code;
+    private final Either<String, Field> asRight;
+    private volatile List<Coordinate> possibleMoves;
+    private volatile CanonicalField canonical;
+
+    private ClassicField(int xMask, int oMask, int code) {
+        this.xMask = xMask;
+        this.oMask = oMask;
+        this.code = code;
+        this.asRight = Either.right(this);
+    }
+
+    private List<Coordinate> createPossibleMoves() {
+        List<Coordinate> moves = new ArrayList<>(CELLS);
+        for (int free = PositionTable.freeMask(code); free != 0; free &= free - 1) {
+            moves.add(BoardSize.CLASSIC.getCoordinate(Integer.numberOfTrailingZeros(free)));
+        }
+        return Collections.unmodifiableList(moves);
+    }
+
+    private static ClassicField of(int xMask, int oMask) {
+        int code = PositionTable.code(xMask, oMask);
+        ClassicField field = POOL.get(code);
+        if (field == null) {
+            POOL.compareAndSet(code, null, new ClassicField(xMask, oMask, code));
+            field = POOL.get(code);
+        }
+        return field;
+    }
+
+    private static int internReachable(int xMask, int oMask) {
+        int code = PositionTable.code(xMask, oMask);
+        if (POOL.get(code) != null) {
+            return 0;
+        }
+        POOL.set(code, new ClassicField(xMask, oMask, code));
+        if (PositionTable.state(code).isTerminal()) {
+            return 1;
+        }
+
+        boolean xToMove = Integer.bitCount(xMask) == Integer.bitCount(oMask);
+        int interned = 1;
+        for (int free = PositionTable.freeMask(code); free != 0; free &= free - 1) {
+            int bit = free & -free;
+            interned += xToMove ? internReachable(xMask | bit, oMask) : internReachable(xMask, oMask | bit);
+        }
+        return interned;
+    }
+
+    static int reachablePositions() {
+        return REACHABLE_POSITIONS;
+    }
+
+    static ClassicField blank() {
+        return POOL.get(0);
+    }
+
+    static ClassicField parse(String cells) {
+        if (cells.length() != CELLS) {
+            throw new IllegalArgumentException("Field should have exactly " + CELLS + " cells: \"" + cells + "\"");
+        }
+
+        int xMask = 0;
+        int oMask = 0;
+        for (int i = 0; i < CELLS; i++) {
+            char cell = cells.charAt(i);
+            if (cell == 'X') {
+                xMask |= 1 << i;
+            } else if (cell == 'O') {
+                oMask |= 1 << i;
+            } else if (cell != ' ') {
+                throw new IllegalArgumentException("Unsupported cell '" + cell + "' in \"" + cells + "\"");
+            }
+        }
+
+        return of(xMask, oMask);
+    }
+
+    @Override
+    public BoardSize getBoardSize() {
+        return BoardSize.CLASSIC;
+    }
+
+    @Override
+    public State getState() {
+        return PositionTable.state(code);
+    }
+
+    @Override
+    public String getWinner() {
+        return PositionTable.winner(code);
+    }
+
+    @Override
+    public String getPrintableField() {
+        String rendered = RENDERED[code];
+        if (rendered == null) {
+            rendered = render();
+            RENDERED[code] = rendered;
+        }
+        return rendered;
+    }
+
+    @Override
+    public void printTo(Appendable out) throws IOException {
+        out.append(getPrintableField());
+    }
+
+    private String render() {
+        char[] result = "---------\n|       |\n|       |\n|       |\n---------".toCharArray();
+        for (int cell = 0; cell < CELLS; cell++) {
+            result[12 + (cell / SIZE) * 10 + 2 * (cell % SIZE)] = symbolAt(cell);
+        }
+        return new String(result);
+    }
+
+    private char symbolAt(int cell) {
+        int bit = 1 << cell;
+        if ((xMask & bit) != 0) {
+            return 'X';
+        } else if ((oMask & bit) != 0) {
+            return 'O';
+        }
+        return ' ';
+    }
+
+    /**
+     * Keys of all positions are precomputed, so a move's incremental update is already folded into the child's entry.
+     */
+    @Override
+    public long getZobristKey() {
+        return PositionTable.zobristKey(code);
+    }
+
+    @Override
+    public CanonicalField canonicalize() {
+        CanonicalField result = canonical;
+        if (result == null) {
+            int canonicalCode = PositionTable.canonicalCode(code);
+            result = new CanonicalField(byCode(canonicalCode), PositionTable.canonicalTransform(code));
+            canonical = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int getPositionCode() {
+        return code;
+    }
+
+    private static ClassicField byCode(int code) {
+        ClassicField field = POOL.get(code);
+        if (field != null) {
+            return field;
+        }
+
+        int xMask = 0;
+        int oMask = 0;
+        for (int cell = 0, rest = code; cell < CELLS; cell++, rest /= 3) {
+            if (rest % 3 == 1) {
+                xMask |= 1 << cell;
+            } else if (rest % 3 == 2) {
+                oMask |= 1 << cell;
+            }
+        }
+        return of(xMask, oMask);
+    }
+
+    @Override
+    public int getFreeCellCount() {
+        return Integer.bitCount(PositionTable.freeMask(code));
+    }
+
+    @Override
+    public boolean isFree(int cell) {
+        return (PositionTable.freeMask(code) & (1 << cell)) != 0;
+    }
+
+    @Override
+    public boolean isX(int cell) {
+        return PositionTable.isX(code, cell);
+    }
+
+    @Override
+    public int fillPossibleMoves(int[] moves) {
+        int count = 0;
+        for (int free = PositionTable.freeMask(code); free != 0; free &= free - 1) {
+            moves[count++] = Integer.numberOfTrailingZeros(free);
+        }
+        return count;
+    }
+
+    @Override
+    int fillWinningMoves(int[] moves, char symbol) {
+        int count = 0;
+        for (int cells = PositionTable.winningMoves(code, symbol); cells != 0; cells &= cells - 1) {
+            moves[count++] = Integer.numberOfTrailingZeros(cells);
+        }
+        return count;
+    }
+
+    @Override
+    Either<String, Field> place(int cell, char symbol) {
+        int bit = 1 << cell;
+        return symbol == 'X' ? of(xMask | bit, oMask).asRight : of(xMask, oMask | bit).asRight;
+    }
+
+    @Override
+    public List<Coordinate> getPossibleMoves() {
+        List<Coordinate> result = possibleMoves;
+        if (result == null) {
+            result = createPossibleMoves();
+            possibleMoves = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return code;
+    }
+}
@@ -2,28 +2,111 @@ package tictactoe.board;
 
 import tictactoe.util.Either;
 
+/**
+ * Position typed by the user, x from the left and y from the bottom. Every coordinate that fits on
+ * the biggest supported board is a cached singleton identified by a packed {@code x * STRIDE + y} index.
+ */
 public class Coordinate {
+    static final int STRIDE = BoardSize.MAX_SIDE + 1;
+    static final int OFF_BOARD = -1;
+
+    private static final Either<String, Coordinate> BAD_FORMAT = Either.left("You should two enter numbers with one space!");
+    private static final Coordinate[] CACHE = createCache();
 
     private final String coordinates;
-    private final Integer x;
-    private final Integer y;
+    private final int x;
+    private final int y;
+    private final int packed;
+    private final Either<String, Coordinate> asRight;
 
-    private Coordinate(String coordinates, int x, int y) {
-        this.coordinates = coordinates;
+    private Coordinate(int x, int y, int packed) {
+        this.coordinates = x + " " + y;
         this.x = x;
         this.y = y;
+        this.packed = packed;
+        this.asRight = Either.right(this);
+    }
+
+    private static Coordinate[] createCache() {
+        Coordinate[] cache = new Coordinate[STRIDE * STRIDE];
+        for (int x = 1; x < STRIDE; x++) {
+            for (int y = 1; y < STRIDE; y++) {
+                cache[x * STRIDE + y] = new Coordinate(x, y, x * STRIDE + y);
+            }
+        }
+        return cache;
+    }
+
+    static Coordinate of(int x, int y) {
+        if (x < 1 || x >= STRIDE || y < 1 || y >= STRIDE) {
+            return new Coordinate(x, y, OFF_BOARD);
+        }
+        return CACHE[x * STRIDE + y];
     }
 
+    /**
+     * Reads two integers separated by a single space, trailing spaces are ignored.
+     */
     public static Either<String, Coordinate> fromString(String coordinates) {
-        String[] split = coordinates.split(" ");
-        int x, y;
-        try {
-            x = Integer.parseInt(split[0]);
-            y = Integer.parseInt(split[1]);
-        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
-            return Either.left("You should two enter numbers with one space!");
+        int length = coordinates.length();
+        while (length > 0 && coordinates.charAt(length - 1) == ' ') {
+            length--;
+        }
+
+        int separator = coordinates.indexOf(' ');
+        if (separator < 0 || separator >= length) {
+            return BAD_FORMAT;
         }
-        return Either.right(new Coordinate(coordinates, x, y));
+
+        long x = parseNumber(coordinates, 0, separator);
+        long y = parseNumber(coordinates, separator + 1, length);
+        if (x == Long.MIN_VALUE || y == Long.MIN_VALUE) {
+            return BAD_FORMAT;
+        }
+        return of((int) x, (int) y).asRight;
+    }
+
+    /**
+     * @return parsed int value or {@link Long#MIN_VALUE} when the chars aren't a single int
+     */
+    private static long parseNumber(String chars, int from, int to) {
+        boolean negative = false;
+        if (from < to && (chars.charAt(from) == '-' || chars.charAt(from) == '+')) {
+            negative = chars.charAt(from) == '-';
+            from++;
+        }
+        if (from == to) {
+            return Long.MIN_VALUE;
+        }
+
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = chars.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                return Long.MIN_VALUE;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * @return {@code x * STRIDE + y} or {@link #OFF_BOARD} when no supported board contains it
+     */
+    int getPacked() {
+        return packed;
     }
 
     public String getCoordinates() {
@@ -42,16 +125,11 @@ public class Coordinate {
 
         Coordinate that = (Coordinate) o;
 
-        if (coordinates != null ? !coordinates.equals(that.coordinates) : that.coordinates != null) return false;
-        if (!x.equals(that.x)) return false;
-        return y.equals(that.y);
+        return x == that.x && y == that.y;
     }
 
     @Override
     public int hashCode() {
-        int result = coordinates != null ? coordinates.hashCode() : 0;
-        result = 31 * result + x.hashCode();
-        result = 31 * result + y.hashCode();
-        return result;
+        return 31 * x + y;
     }
 }
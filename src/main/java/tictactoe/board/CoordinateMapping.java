@@ -1,52 +1,52 @@
 package tictactoe.board;
 
-import tictactoe.util.Tuple;
-
-import java.util.*;
+import java.util.Arrays;
 
+/**
+ * Flat lookup between packed coordinates and row-major, top-down cell indexes of one board size.
+ */
 class CoordinateMapping {
-    private static final Map<Coordinate, Integer> COORDINATE_MAPPING = createCoordinateMapping();
-    private static final List<Tuple<Coordinate, Integer>> COORDINATE_TUPLE = createCoordinateTuple();
-
-    private static List<Tuple<Coordinate, Integer>> createCoordinateTuple() {
-        List<Tuple<Coordinate, Integer>> list = new ArrayList<>();
-        list.add(Tuple.of(Coordinate.fromString("1 3").getRight(), 0));
-        list.add(Tuple.of(Coordinate.fromString("2 3").getRight(), 1));
-        list.add(Tuple.of(Coordinate.fromString("3 3").getRight(), 2));
-        list.add(Tuple.of(Coordinate.fromString("1 2").getRight(), 3));
-        list.add(Tuple.of(Coordinate.fromString("2 2").getRight(), 4));
-        list.add(Tuple.of(Coordinate.fromString("3 2").getRight(), 5));
-        list.add(Tuple.of(Coordinate.fromString("1 1").getRight(), 6));
-        list.add(Tuple.of(Coordinate.fromString("2 1").getRight(), 7));
-        list.add(Tuple.of(Coordinate.fromString("3 1").getRight(), 8));
-        return list;
+    private final int width;
+    private final int height;
+    private final int[] cellByCoordinate;
+    private final Coordinate[] coordinateByCell;
+
+    CoordinateMapping(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cellByCoordinate = new int[Coordinate.STRIDE * Coordinate.STRIDE];
+        this.coordinateByCell = new Coordinate[width * height];
+
+        Arrays.fill(cellByCoordinate, -1);
+        for (int cell = 0; cell < coordinateByCell.length; cell++) {
+            Coordinate coordinate = Coordinate.of(cell % width + 1, height - cell / width);
+            coordinateByCell[cell] = coordinate;
+            cellByCoordinate[coordinate.getPacked()] = cell;
+        }
     }
 
-    public static String getPrintableMapping() {
-        return String.format("%s %s %s" +
-                "%s %s %s" +
-                "%s %s %s", COORDINATE_TUPLE.stream()
-                .sorted(Comparator.comparing(Tuple::get_2))
-                .map(Tuple::get_1)
-                .toArray());
+    public String getPrintableMapping() {
+        StringBuilder result = new StringBuilder();
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                result.append(coordinateByCell[row * width + column]);
+                if (column < width - 1) {
+                    result.append(' ');
+                }
+            }
+        }
+        return result.toString();
     }
 
-    public static Map<Coordinate, Integer> getCoordinateMapping() {
-        return COORDINATE_MAPPING;
+    /**
+     * @return index of the cell or -1 when it's off the board
+     */
+    int toCell(Coordinate coordinate) {
+        int packed = coordinate.getPacked();
+        return packed == Coordinate.OFF_BOARD ? -1 : cellByCoordinate[packed];
     }
 
-
-    private static Map<Coordinate, Integer> createCoordinateMapping() {
-        Map<Coordinate, Integer> map = new HashMap<>(9);
-        map.put(Coordinate.fromString("1 1").getRight(), 6);
-        map.put(Coordinate.fromString("1 2").getRight(), 3);
-        map.put(Coordinate.fromString("1 3").getRight(), 0);
-        map.put(Coordinate.fromString("2 1").getRight(), 7);
-        map.put(Coordinate.fromString("2 2").getRight(), 4);
-        map.put(Coordinate.fromString("2 3").getRight(), 1);
-        map.put(Coordinate.fromString("3 1").getRight(), 8);
-        map.put(Coordinate.fromString("3 2").getRight(), 5);
-        map.put(Coordinate.fromString("3 3").getRight(), 2);
-        return map;
+    Coordinate getCoordinate(int cell) {
+        return coordinateByCell[cell];
     }
 }
@@ -2,215 +2,180 @@ package tictactoe.board;
 
 import tictactoe.util.Either;
 
-import java.util.*;
-import java.util.stream.Collectors;
-
-import static tictactoe.board.State.*;
-
-public class Field {
-    private final String[][] array;
-    private final String cells;
-    private final String winner;
-    private final State state;
-    private final boolean isTwoWinners;
-    private final Map<Coordinate, Integer> coordinateMapping;
-    private final List<Coordinate> possibleMoves;
-
-    private Field(String[][] array, String cells) {
-        this.array = array;
-        this.cells = cells;
-        this.coordinateMapping = CoordinateMapping.getCoordinateMapping();
-        this.possibleMoves = createPossibleMoves();
-        this.winner = calculateWinner();
-        this.isTwoWinners = this.winner.equals("I");
-        this.state = validate();
-    }
-
-    private List<Coordinate> createPossibleMoves() {
-        return coordinateMapping.keySet()
-                .stream()
-                .filter(coordinates -> cells.charAt(coordinateMapping.get(coordinates)) == ' ')
-                .collect(Collectors.toList());
-    }
-
-    public static Field fromCells(String cells) {
-        String[][] array = new String[3][3];
-        for (int i = 0, counter = 0; i < array.length; i++) {
-            for (int j = 0; j < array.length; j++, counter++) {
-                array[i][j] = String.valueOf(cells.charAt(counter));
-            }
-        }
-
-        return new Field(array, cells);
-    }
+import java.io.IOException;
+import java.util.List;
 
-    public State getState() {
-        return state;
-    }
+/**
+ * Immutable game position. The classic 3x3 board is backed by precomputed tables,
+ * every other {@link BoardSize} by bitsets with win detection around the last move.
+ * Cells are indexed row by row, starting from the top left corner.
+ */
+public abstract class Field {
+    private static final String[] WINNERS = {"", "X", "O", "I"};
+    private static final Either<String, Field> OCCUPIED = Either.left("This cell is occupied! Choose another one!");
+    private static final Either<String, Field> NO_SUCH_CELL = Either.left("There is no such cell!");
 
-    public String getWinner() {
-        return winner;
+    Field() {
     }
 
-    public String getStateName() {
-        return this.state.getName();
+    public static Field fromCells(String cells) {
+        return ClassicField.parse(cells);
     }
 
-    public String getPrintableField() {
-        StringBuilder result = new StringBuilder();
-
-        for (int i = 0; i < 3; i++) {
-            String[] split = array[i];
-            String row = String.format("%s %s %s", split[0], split[1], split[2]);
-            result.append(String.format("| %s |\n", row));
+    public static Field fromCells(BoardSize boardSize, String cells) {
+        if (boardSize == BoardSize.CLASSIC) {
+            return ClassicField.parse(cells);
         }
-        String horizontal = "---------";
-        return String.format("%s\n%s\n%s", horizontal, result.toString().trim(), horizontal);
+        return MnkField.parse(boardSize, cells);
     }
 
-    private State validate() {
-        if (isImpossibleState()) {
-            return IMPOSSIBLE;
-        } else if (isSymbolXWin()) {
-            return X_WINS;
-        } else if (isSymbolOWin()) {
-            return O_WINS;
-        } else if (isDraw()) {
-            return DRAW;
-        } else if (!noMoreMoves()) {
-            return GAME_NOT_FINISHED;
+    public static Field empty(BoardSize boardSize) {
+        if (boardSize == BoardSize.CLASSIC) {
+            return ClassicField.blank();
         }
-        return UNKNOWN;
+        return MnkField.blank(boardSize);
     }
 
+    public abstract BoardSize getBoardSize();
 
-    //todo move to CoordinateValidator
-    public Either<String, Field> nextMove(String coordinates, String nextSymbol) {
-        char[] chars = cells.toCharArray();
-        Either<String, Coordinate> coordinatesEither = Coordinate.fromString(coordinates);
-        if (coordinatesEither.isLeft()) {
-            return Either.left(coordinatesEither.getLeft());
-        }
-
-        Integer orDefault = coordinateMapping.getOrDefault(coordinatesEither.getRight(), -1);
+    public abstract State getState();
 
-        if (orDefault < 0) {
-            return Either.left("Coordinate should be from 1 to 3!");
-        } else if (!possibleMoves.contains(coordinatesEither.getRight())) {
-            return Either.left("This cell is occupied! Choose another one!");
-        } else {
-            chars[orDefault] = nextSymbol.charAt(0);
-        }
+    public abstract String getWinner();
 
-        return Either.right(Field.fromCells(String.valueOf(chars)));
+    public String getStateName() {
+        return getState().getName();
     }
 
-    private String calculateWinner() {
-        boolean isXWin = isSymbolWin("X");
-        boolean isOWin = isSymbolWin("O");
+    public abstract String getPrintableField();
 
-        if (isXWin && isOWin) {
-            return "I";
-        } else if (isXWin) {
-            return "X";
-        } else if (isOWin) {
-            return "O";
-        }
+    /**
+     * Writes the same text as {@link #getPrintableField()} straight into {@code out}.
+     */
+    public abstract void printTo(Appendable out) throws IOException;
 
-        return "";
-    }
+    public abstract List<Coordinate> getPossibleMoves();
 
-    private int countSymbol(String symbol) {
-        int counter = 0;
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                if (symbol.charAt(0) == array[i][j].charAt(0)) {
-                    counter++;
-                }
-            }
-        }
-        return counter;
-    }
+    public abstract int getFreeCellCount();
 
-    private boolean isSymbolXWin() {
-        return isTwoWinners || this.winner.equals("X");
-    }
+    public abstract boolean isFree(int cell);
 
-    private boolean isSymbolOWin() {
-        return isTwoWinners || this.winner.equals("O");
-    }
+    /**
+     * @return true when X is on {@code cell}; a cell that is neither free nor X holds O
+     */
+    public abstract boolean isX(int cell);
 
-    private boolean isSymbolWin(String symbol) {
-        // checking horizontally
-        for (int i = 0; i < 3; i++) {
-            String[] strings = array[i];
-            if (Objects.equals(strings[0], strings[1]) &&
-                    Objects.equals(strings[0], strings[2]) &&
-                    Objects.equals(strings[0], symbol)) {
-                return true;
+    /**
+     * @return the cell taken since {@code previous}, a position of the same board one move earlier, or -1 when none
+     */
+    public int getMoveSince(Field previous) {
+        int cells = getBoardSize().getCells();
+        for (int cell = 0; cell < cells; cell++) {
+            if (previous.isFree(cell) && !isFree(cell)) {
+                return cell;
             }
         }
-
-        // checking vertically
-        for (int i = 0; i < 3; i++) {
-            String[] strings = new String[]{array[0][i], array[1][i], array[2][i]};
-            if (Objects.equals(strings[0], strings[1]) &&
-                    Objects.equals(strings[0], strings[2]) &&
-                    Objects.equals(strings[0], symbol)) {
-                return true;
+        return -1;
+    }
+
+    /**
+     * Writes free cells in ascending order into {@code moves}, which needs room for {@link #getFreeCellCount()} of them.
+     *
+     * @return number of cells written
+     */
+    public abstract int fillPossibleMoves(int[] moves);
+
+    /**
+     * Writes free cells in search order, the cells that lie on the most lines first and the ones closer
+     * to the centre before the others (on 3x3: centre, corners, edges).
+     *
+     * @return number of cells written
+     */
+    public int fillOrderedMoves(int[] moves) {
+        int count = 0;
+        for (int cell : getBoardSize().getMoveOrder()) {
+            if (isFree(cell)) {
+                moves[count++] = cell;
             }
         }
+        return count;
+    }
 
-        // checking diagonally
-        if (Objects.equals(array[0][0], array[1][1]) &&
-                Objects.equals(array[0][0], array[2][2]) &&
-                Objects.equals(array[0][0], symbol)) {
-            return true;
-        }
+    /**
+     * Writes the free cells where {@code symbol} would complete a line, found from per-line counts
+     * of X and O that are updated move by move instead of trying every cell.
+     *
+     * @return number of cells written
+     */
+    public int fillWinningMoves(int[] moves, String symbol) {
+        return fillWinningMoves(moves, toSymbol(symbol));
+    }
 
-        return Objects.equals(array[2][0], array[1][1]) &&
-                Objects.equals(array[2][0], array[0][2]) &&
-                Objects.equals(array[2][0], symbol);
+    abstract int fillWinningMoves(int[] moves, char symbol);
 
-    }
+    /**
+     * 64-bit Zobrist key of this position, updated with one XOR per move. Keys are meant for transposition
+     * tables and position caches, different positions share a key only by (very unlikely) accident.
+     */
+    public abstract long getZobristKey();
 
-    private boolean isDraw() {
-        return !isSymbolXWin() && !isSymbolOWin() && noMoreMoves();
-    }
+    /**
+     * Finds the representative of this position among its rotations and reflections, so caches can share
+     * entries between symmetric positions. Only square boards have symmetries, others are their own
+     * canonical form.
+     */
+    public abstract CanonicalField canonicalize();
 
-    private boolean noMoreMoves() {
-        return possibleMoves.size() == 0;
+    /**
+     * Base-3 index of a 3x3 position: cell {@code i} adds {@code 3^i} for X and {@code 2 * 3^i} for O.
+     *
+     * @return the index from 0 to 19682 or -1 on other board sizes
+     */
+    public int getPositionCode() {
+        return -1;
     }
 
-    private Boolean isImpossibleState() {
-        int quantityOfX = countSymbol("X");
-        int quantityOfY = countSymbol("O");
+    //todo move to CoordinateValidator
+    public Either<String, Field> nextMove(String coordinates, String nextSymbol) {
+        Either<String, Coordinate> coordinatesEither = Coordinate.fromString(coordinates);
+        if (coordinatesEither.isLeft()) {
+            return Either.left(coordinatesEither.getLeft());
+        }
+
+        BoardSize boardSize = getBoardSize();
+        int cell = boardSize.getCoordinateMapping().toCell(coordinatesEither.getRight());
 
-        boolean isTooMuchSymbol = Math.abs(quantityOfX - quantityOfY) > 1;
-        boolean isThereTwoWinners = (isSymbolXWin() && isSymbolOWin());
+        if (cell < 0) {
+            return Either.left(boardSize.getOutOfRangeMessage());
+        } else if (!isFree(cell)) {
+            return OCCUPIED;
+        }
 
-        return isTooMuchSymbol || isThereTwoWinners;
+        return place(cell, toSymbol(nextSymbol));
     }
 
-    public List<Coordinate> getPossibleMoves() {
-        return possibleMoves;
+    public Either<String, Field> nextMove(int cell, String nextSymbol) {
+        if (cell < 0 || cell >= getBoardSize().getCells()) {
+            return NO_SUCH_CELL;
+        } else if (!isFree(cell)) {
+            return OCCUPIED;
+        }
+        return place(cell, toSymbol(nextSymbol));
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-
-        Field field = (Field) o;
-
-        if (!Arrays.deepEquals(array, field.array)) return false;
-        return state == field.state;
+    private static char toSymbol(String nextSymbol) {
+        char symbol = nextSymbol.charAt(0);
+        if (symbol != 'X' && symbol != 'O') {
+            throw new IllegalArgumentException("Unsupported symbol: " + nextSymbol);
+        }
+        return symbol;
     }
 
-    @Override
-    public int hashCode() {
-        int result = Arrays.deepHashCode(array);
-        result = 31 * result + (state != null ? state.hashCode() : 0);
-        return result;
+    /**
+     * Puts {@code symbol} on a free {@code cell}, without any validation.
+     */
+    abstract Either<String, Field> place(int cell, char symbol);
+
+    static String winnerName(int winner) {
+        return WINNERS[winner];
     }
 }
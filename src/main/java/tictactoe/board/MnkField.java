@@ -0,0 +1,431 @@
+package tictactoe.board;
+
+import tictactoe.util.Either;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Any {@link BoardSize}. Cells are kept in two bitsets, next to the free cells that would complete a line
+ * of X or of O, which a move updates by sliding a window along the four lines through it.
+ */
+final class MnkField extends Field {
+    private static final int[][] DIRECTIONS = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+
+    private final BoardSize boardSize;
+    private final long[] xBits;
+    private final long[] oBits;
+    private final int xCount;
+    private final int oCount;
+    private final int winner;
+    private final long zobristKey;
+    // free cells that complete a line of X, of O
+    private final long[] xWins;
+    private final long[] oWins;
+    private volatile State state;
+    private volatile List<Coordinate> possibleMoves;
+
+    private MnkField(BoardSize boardSize, long[] xBits, long[] oBits, int xCount, int oCount, int winner,
+                     long zobristKey, long[] xWins, long[] oWins) {
+        this.boardSize = boardSize;
+        this.xBits = xBits;
+        this.oBits = oBits;
+        this.xCount = xCount;
+        this.oCount = oCount;
+        this.winner = winner;
+        this.zobristKey = zobristKey;
+        this.xWins = xWins;
+        this.oWins = oWins;
+    }
+
+    static MnkField blank(BoardSize boardSize) {
+        int words = (boardSize.getCells() + 63) >>> 6;
+        long[] empty = new long[words];
+        // only a single cell makes a line on an empty board
+        long[] wins = boardSize.getWinLength() == 1 ? winningCells(boardSize, empty, empty) : empty;
+        return new MnkField(boardSize, empty, empty, 0, 0, 0, Zobrist.empty(boardSize), wins, wins);
+    }
+
+    static MnkField parse(BoardSize boardSize, String cells) {
+        int size = boardSize.getCells();
+        if (cells.length() != size) {
+            throw new IllegalArgumentException("Field should have exactly " + size + " cells: \"" + cells + "\"");
+        }
+
+        int words = (size + 63) >>> 6;
+        long[] xBits = new long[words];
+        long[] oBits = new long[words];
+        int xCount = 0;
+        int oCount = 0;
+        for (int cell = 0; cell < size; cell++) {
+            char symbol = cells.charAt(cell);
+            if (symbol == 'X') {
+                xBits[cell >>> 6] |= 1L << cell;
+                xCount++;
+            } else if (symbol == 'O') {
+                oBits[cell >>> 6] |= 1L << cell;
+                oCount++;
+            } else if (symbol != ' ') {
+                throw new IllegalArgumentException("Unsupported cell '" + symbol + "' in \"" + cells + "\"");
+            }
+        }
+
+        int winner = 0;
+        for (int cell = 0; cell < size && winner != 3; cell++) {
+            if (isSet(xBits, cell) && completesLine(boardSize, xBits, cell)) {
+                winner |= 1;
+            } else if (isSet(oBits, cell) && completesLine(boardSize, oBits, cell)) {
+                winner |= 2;
+            }
+        }
+        return new MnkField(boardSize, xBits, oBits, xCount, oCount, winner, zobristKey(boardSize, xBits, oBits),
+                winningCells(boardSize, xBits, oBits), winningCells(boardSize, oBits, xBits));
+    }
+
+    private static long[] winningCells(BoardSize boardSize, long[] own, long[] other) {
+        WinLines lines = boardSize.getWinLines();
+        long[] result = new long[own.length];
+        for (int line = 0; line < lines.getCount(); line++) {
+            addWinningCell(boardSize, lines.cellsOf(line), own, other, result);
+        }
+        return result;
+    }
+
+    // marks the free cell of a line that has all but one of its cells taken by own
+    private static void addWinningCell(BoardSize boardSize, int[] line, long[] own, long[] other, long[] wins) {
+        int owned = 0;
+        int free = -1;
+        for (int cell : line) {
+            if (isSet(own, cell)) {
+                owned++;
+            } else if (isSet(other, cell)) {
+                return;
+            } else {
+                free = cell;
+            }
+        }
+        if (owned == boardSize.getWinLength() - 1) {
+            wins[free >>> 6] |= 1L << free;
+        }
+    }
+
+    private static long zobristKey(BoardSize boardSize, long[] xBits, long[] oBits) {
+        long key = Zobrist.empty(boardSize);
+        for (int cell = 0; cell < boardSize.getCells(); cell++) {
+            if (isSet(xBits, cell)) {
+                key ^= Zobrist.piece(cell, 'X');
+            } else if (isSet(oBits, cell)) {
+                key ^= Zobrist.piece(cell, 'O');
+            }
+        }
+        return key;
+    }
+
+    private List<Coordinate> createPossibleMoves() {
+        int[] cells = new int[getFreeCellCount()];
+        int count = fillPossibleMoves(cells);
+        List<Coordinate> moves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            moves.add(boardSize.getCoordinate(cells[i]));
+        }
+        return Collections.unmodifiableList(moves);
+    }
+
+    @Override
+    public BoardSize getBoardSize() {
+        return boardSize;
+    }
+
+    @Override
+    public State getState() {
+        State result = state;
+        if (result == null) {
+            result = State.evaluate(xCount, oCount, winner, xCount + oCount == boardSize.getCells());
+            state = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String getWinner() {
+        return winnerName(winner);
+    }
+
+    @Override
+    public String getPrintableField() {
+        int width = boardSize.getWidth();
+        StringBuilder result = new StringBuilder((2 * width + 4) * (boardSize.getHeight() + 2));
+        try {
+            printTo(result);
+        } catch (IOException e) {
+            throw new IllegalStateException("StringBuilder doesn't throw", e);
+        }
+        return result.toString();
+    }
+
+    @Override
+    public void printTo(Appendable out) throws IOException {
+        int width = boardSize.getWidth();
+        appendHorizontal(out, width);
+        out.append('\n');
+        for (int row = 0; row < boardSize.getHeight(); row++) {
+            out.append('|');
+            for (int column = 0; column < width; column++) {
+                out.append(' ').append(symbolAt(row * width + column));
+            }
+            out.append(" |\n");
+        }
+        appendHorizontal(out, width);
+    }
+
+    private static void appendHorizontal(Appendable out, int width) throws IOException {
+        for (int i = 0; i < 2 * width + 3; i++) {
+            out.append('-');
+        }
+    }
+
+    private char symbolAt(int cell) {
+        if (isSet(xBits, cell)) {
+            return 'X';
+        } else if (isSet(oBits, cell)) {
+            return 'O';
+        }
+        return ' ';
+    }
+
+    @Override
+    public List<Coordinate> getPossibleMoves() {
+        List<Coordinate> result = possibleMoves;
+        if (result == null) {
+            result = createPossibleMoves();
+            possibleMoves = result;
+        }
+        return result;
+    }
+
+    @Override
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    @Override
+    public CanonicalField canonicalize() {
+        Symmetry symmetry = boardSize.getSymmetry();
+        int cells = boardSize.getCells();
+        long[] bestX = xBits;
+        long[] bestO = oBits;
+        int bestTransform = Symmetry.IDENTITY;
+        for (int transform = 1; transform < symmetry.getTransformCount(); transform++) {
+            long[] x = symmetry.applyToBits(transform, xBits, cells);
+            long[] o = symmetry.applyToBits(transform, oBits, cells);
+            int order = compare(x, bestX);
+            if (order < 0 || order == 0 && compare(o, bestO) < 0) {
+                bestX = x;
+                bestO = o;
+                bestTransform = transform;
+            }
+        }
+
+        Field canonical = bestTransform == Symmetry.IDENTITY
+                ? this
+                : new MnkField(boardSize, bestX, bestO, xCount, oCount, winner, zobristKey(boardSize, bestX, bestO),
+                symmetry.applyToBits(bestTransform, xWins, cells), symmetry.applyToBits(bestTransform, oWins, cells));
+        return new CanonicalField(canonical, bestTransform);
+    }
+
+    private static int compare(long[] first, long[] second) {
+        for (int i = 0; i < first.length; i++) {
+            int order = Long.compareUnsigned(first[i], second[i]);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public int getFreeCellCount() {
+        return boardSize.getCells() - xCount - oCount;
+    }
+
+    @Override
+    public boolean isFree(int cell) {
+        return !isSet(xBits, cell) && !isSet(oBits, cell);
+    }
+
+    @Override
+    public boolean isX(int cell) {
+        return isSet(xBits, cell);
+    }
+
+    @Override
+    public int fillPossibleMoves(int[] moves) {
+        int count = 0;
+        for (int word = 0; word < xBits.length; word++) {
+            int remaining = boardSize.getCells() - (word << 6);
+            long onBoard = remaining >= 64 ? -1L : (1L << remaining) - 1;
+            for (long free = ~(xBits[word] | oBits[word]) & onBoard; free != 0; free &= free - 1) {
+                moves[count++] = (word << 6) + Long.numberOfTrailingZeros(free);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    Either<String, Field> place(int cell, char symbol) {
+        long key = zobristKey ^ Zobrist.piece(cell, symbol);
+        if (symbol == 'X') {
+            long[] next = with(xBits, cell);
+            long[] nextWins = addWinningCells(cell, next, oBits, without(xWins, cell), xWins);
+            int nextWinner = isSet(xWins, cell) ? winner | 1 : winner;
+            return Either.right(new MnkField(boardSize, next, oBits, xCount + 1, oCount, nextWinner, key,
+                    nextWins, without(oWins, cell)));
+        }
+        long[] next = with(oBits, cell);
+        long[] nextWins = addWinningCells(cell, next, xBits, without(oWins, cell), oWins);
+        int nextWinner = isSet(oWins, cell) ? winner | 2 : winner;
+        return Either.right(new MnkField(boardSize, xBits, next, xCount, oCount + 1, nextWinner, key,
+                without(xWins, cell), nextWins));
+    }
+
+    /**
+     * Marks the free cells that complete a line of {@code own} with one more symbol, among the windows of
+     * {@code winLength} cells through {@code cell}; a move can't add any elsewhere. Each direction is slid
+     * over once, so it takes O(winLength) steps.
+     *
+     * @param wins copied before it's changed when it's still {@code shared}
+     */
+    private long[] addWinningCells(int cell, long[] own, long[] other, long[] wins, long[] shared) {
+        int width = boardSize.getWidth();
+        int height = boardSize.getHeight();
+        int winLength = boardSize.getWinLength();
+        int column = cell % width;
+        int row = cell / width;
+        long[] result = wins;
+        for (int[] direction : DIRECTIONS) {
+            int dx = direction[0];
+            int dy = direction[1];
+            int first = 0;
+            while (first > 1 - winLength && onBoard(column + (first - 1) * dx, row + (first - 1) * dy, width, height)) {
+                first--;
+            }
+            int last = 0;
+            while (last < winLength - 1 && onBoard(column + (last + 1) * dx, row + (last + 1) * dy, width, height)) {
+                last++;
+            }
+            int step = dy * width + dx;
+            int owned = 0;
+            int blocked = 0;
+            // with a single free cell in the window, the sum is that cell
+            int freeSum = 0;
+            for (int i = first; i <= last; i++) {
+                int entering = cell + i * step;
+                if (isSet(own, entering)) {
+                    owned++;
+                } else if (isSet(other, entering)) {
+                    blocked++;
+                } else {
+                    freeSum += entering;
+                }
+                if (i - first >= winLength) {
+                    int leaving = entering - winLength * step;
+                    if (isSet(own, leaving)) {
+                        owned--;
+                    } else if (isSet(other, leaving)) {
+                        blocked--;
+                    } else {
+                        freeSum -= leaving;
+                    }
+                }
+                if (i - first >= winLength - 1 && blocked == 0 && owned == winLength - 1 && !isSet(result, freeSum)) {
+                    if (result == shared) {
+                        result = shared.clone();
+                    }
+                    result[freeSum >>> 6] |= 1L << freeSum;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean onBoard(int column, int row, int width, int height) {
+        return column >= 0 && column < width && row >= 0 && row < height;
+    }
+
+    private static long[] with(long[] bits, int cell) {
+        long[] result = bits.clone();
+        result[cell >>> 6] |= 1L << cell;
+        return result;
+    }
+
+    private static long[] without(long[] bits, int cell) {
+        return isSet(bits, cell) ? copyWithout(bits, cell) : bits;
+    }
+
+    private static long[] copyWithout(long[] bits, int cell) {
+        long[] result = bits.clone();
+        result[cell >>> 6] &= ~(1L << cell);
+        return result;
+    }
+
+    @Override
+    int fillWinningMoves(int[] moves, char symbol) {
+        long[] wins = symbol == 'X' ? xWins : oWins;
+        int count = 0;
+        for (int word = 0; word < wins.length; word++) {
+            for (long bits = wins[word]; bits != 0; bits &= bits - 1) {
+                moves[count++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return count;
+    }
+
+    private static boolean isSet(long[] bits, int cell) {
+        return (bits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    private static boolean completesLine(BoardSize boardSize, long[] bits, int cell) {
+        int column = cell % boardSize.getWidth();
+        int row = cell / boardSize.getWidth();
+        for (int[] direction : DIRECTIONS) {
+            int length = 1 + countInDirection(boardSize, bits, column, row, direction[0], direction[1])
+                    + countInDirection(boardSize, bits, column, row, -direction[0], -direction[1]);
+            if (length >= boardSize.getWinLength()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int countInDirection(BoardSize boardSize, long[] bits, int column, int row, int dx, int dy) {
+        int width = boardSize.getWidth();
+        int height = boardSize.getHeight();
+        int limit = boardSize.getWinLength() - 1;
+        int count = 0;
+        for (int x = column + dx, y = row + dy;
+             count < limit && x >= 0 && x < width && y >= 0 && y < height && isSet(bits, y * width + x);
+             x += dx, y += dy) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MnkField that = (MnkField) o;
+
+        return zobristKey == that.zobristKey && boardSize.equals(that.boardSize)
+                && Arrays.equals(xBits, that.xBits) && Arrays.equals(oBits, that.oBits);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (zobristKey ^ (zobristKey >>> 32));
+    }
+}
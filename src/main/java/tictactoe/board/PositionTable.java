@@ -0,0 +1,184 @@
+package tictactoe.board;
+
+/**
+ * Every 3x3 position evaluated once, indexed by its base-3 code
+ * (digit i is 0 for an empty cell i, 1 for X and 2 for O).
+ */
+final class PositionTable {
+    static final int SIZE = 3;
+    static final int CELLS = SIZE * SIZE;
+    static final int FULL_MASK = (1 << CELLS) - 1;
+    static final int POSITIONS = 19683; // 3^9
+
+    // bit i stands for cell i, rows are stored top-down
+    static final int[] WIN_LINES = {
+            0b000_000_111, 0b000_111_000, 0b111_000_000, // rows
+            0b001_001_001, 0b010_010_010, 0b100_100_100, // columns
+            0b100_010_001, 0b001_010_100                 // diagonals
+    };
+
+    private static final State[] STATES = State.values();
+
+    // base-3 value of a mask with every set bit as digit 1
+    private static final int[] TERNARY = createTernary();
+    private static final byte[] STATE = new byte[POSITIONS];
+    private static final byte[] WINNER = new byte[POSITIONS];
+    private static final short[] FREE = new short[POSITIONS];
+    private static final short[] CANONICAL = new short[POSITIONS];
+    private static final byte[] TRANSFORM = new byte[POSITIONS];
+    private static final long[] ZOBRIST_KEY = new long[POSITIONS];
+    // four bits per line of WIN_LINES: the number of X in the low two, of O in the high two
+    private static final int[] LINE_COUNTS = new int[POSITIONS];
+
+    static {
+        for (int xMask = 0; xMask <= FULL_MASK; xMask++) {
+            for (int oMask = 0; oMask <= FULL_MASK; oMask++) {
+                if ((xMask & oMask) == 0) {
+                    int code = code(xMask, oMask);
+                    int winner = winner(xMask, oMask);
+                    WINNER[code] = (byte) winner;
+                    State state = State.evaluate(Integer.bitCount(xMask), Integer.bitCount(oMask), winner,
+                            (xMask | oMask) == FULL_MASK);
+                    STATE[code] = (byte) state.ordinal();
+                    FREE[code] = (short) (~(xMask | oMask) & FULL_MASK);
+                    canonicalize(code, xMask, oMask);
+                    ZOBRIST_KEY[code] = zobristKey(xMask, oMask);
+                }
+            }
+        }
+        countLines();
+    }
+
+    private PositionTable() {
+    }
+
+    static int code(int xMask, int oMask) {
+        return TERNARY[xMask] + 2 * TERNARY[oMask];
+    }
+
+    static State state(int code) {
+        return STATES[STATE[code]];
+    }
+
+    static String winner(int code) {
+        return Field.winnerName(WINNER[code]);
+    }
+
+    static int freeMask(int code) {
+        return FREE[code];
+    }
+
+    static boolean isX(int code, int cell) {
+        return code / TERNARY[1 << cell] % 3 == 1;
+    }
+
+    /**
+     * @return code of the smallest position among the rotations and reflections of this one
+     */
+    static int canonicalCode(int code) {
+        return CANONICAL[code];
+    }
+
+    /**
+     * @return {@link Symmetry} transform that turns this position into its canonical one
+     */
+    static int canonicalTransform(int code) {
+        return TRANSFORM[code];
+    }
+
+    static long zobristKey(int code) {
+        return ZOBRIST_KEY[code];
+    }
+
+    /**
+     * @return mask of the free cells that complete a line of {@code symbol}
+     */
+    static int winningMoves(int code, char symbol) {
+        int counts = LINE_COUNTS[code];
+        int own = symbol == 'X' ? 0 : 2;
+        int other = 2 - own;
+        int cells = 0;
+        for (int line = 0; line < WIN_LINES.length; line++, counts >>>= 4) {
+            if ((counts >>> own & 0x3) == SIZE - 1 && (counts >>> other & 0x3) == 0) {
+                cells |= WIN_LINES[line];
+            }
+        }
+        return cells & FREE[code];
+    }
+
+    // every code is the one without its lowest symbol plus that symbol, so counts grow one move at a time
+    private static void countLines() {
+        for (int code = 1; code < POSITIONS; code++) {
+            int cell = 0;
+            int power = 1;
+            while (code / power % 3 == 0) {
+                power *= 3;
+                cell++;
+            }
+            int digit = code / power % 3;
+            int counts = LINE_COUNTS[code - digit * power];
+            for (int line = 0; line < WIN_LINES.length; line++) {
+                if ((WIN_LINES[line] & (1 << cell)) != 0) {
+                    counts += 1 << (4 * line + 2 * (digit - 1));
+                }
+            }
+            LINE_COUNTS[code] = counts;
+        }
+    }
+
+    private static long zobristKey(int xMask, int oMask) {
+        long key = Zobrist.empty(BoardSize.CLASSIC);
+        for (int bits = xMask; bits != 0; bits &= bits - 1) {
+            key ^= Zobrist.piece(Integer.numberOfTrailingZeros(bits), 'X');
+        }
+        for (int bits = oMask; bits != 0; bits &= bits - 1) {
+            key ^= Zobrist.piece(Integer.numberOfTrailingZeros(bits), 'O');
+        }
+        return key;
+    }
+
+    private static void canonicalize(int code, int xMask, int oMask) {
+        Symmetry symmetry = BoardSize.CLASSIC.getSymmetry();
+        int best = code;
+        int bestTransform = Symmetry.IDENTITY;
+        for (int transform = 1; transform < symmetry.getTransformCount(); transform++) {
+            int image = code(symmetry.applyToMask(transform, xMask), symmetry.applyToMask(transform, oMask));
+            if (image < best) {
+                best = image;
+                bestTransform = transform;
+            }
+        }
+        CANONICAL[code] = (short) best;
+        TRANSFORM[code] = (byte) bestTransform;
+    }
+
+    private static int winner(int xMask, int oMask) {
+        return (isWin(xMask) ? 1 : 0) | (isWin(oMask) ? 2 : 0);
+    }
+
+    private static boolean isWin(int mask) {
+        for (int line : WIN_LINES) {
+            if ((mask & line) == line) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] createTernary() {
+        int[] ternary = new int[FULL_MASK + 1];
+        for (int mask = 1; mask <= FULL_MASK; mask++) {
+            int lowestCell = Integer.numberOfTrailingZeros(mask);
+            ternary[mask] = ternary[mask & (mask - 1)] + pow3(lowestCell);
+        }
+        return ternary;
+    }
+
+    private static int pow3(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 3;
+        }
+        return result;
+    }
+}
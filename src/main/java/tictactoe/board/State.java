@@ -32,4 +32,22 @@ public enum State {
     public boolean isTerminal() {
         return terminalStates.contains(this);
     }
+
+    /**
+     * @param winner bit 1 set when X has a line, bit 2 when O has one
+     */
+    static State evaluate(int xCount, int oCount, int winner, boolean isFull) {
+        boolean isTooMuchSymbol = Math.abs(xCount - oCount) > 1;
+
+        if (isTooMuchSymbol || winner == 3) {
+            return IMPOSSIBLE;
+        } else if (winner == 1) {
+            return X_WINS;
+        } else if (winner == 2) {
+            return O_WINS;
+        } else if (isFull) {
+            return DRAW;
+        }
+        return GAME_NOT_FINISHED;
+    }
 }
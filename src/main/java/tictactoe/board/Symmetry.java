@@ -0,0 +1,68 @@
+package tictactoe.board;
+
+/**
+ * Cell permutations for the rotations and reflections of a board. Transform {@code t} rotates the board
+ * {@code t % 4} quarter turns clockwise and then mirrors it left to right when {@code t >= 4}.
+ * Square boards have all eight of them (the dihedral group D4), other boards only the identity.
+ */
+final class Symmetry {
+    static final int IDENTITY = 0;
+
+    private final int[][] forward;
+    private final int[][] backward;
+
+    Symmetry(int width, int height) {
+        int transforms = width == height ? 8 : 1;
+        int cells = width * height;
+        forward = new int[transforms][cells];
+        backward = new int[transforms][cells];
+
+        for (int transform = 0; transform < transforms; transform++) {
+            for (int cell = 0; cell < cells; cell++) {
+                int row = cell / width;
+                int column = cell % width;
+                for (int turn = 0; turn < transform % 4; turn++) {
+                    int rotatedRow = column;
+                    column = width - 1 - row;
+                    row = rotatedRow;
+                }
+                if (transform >= 4) {
+                    column = width - 1 - column;
+                }
+                forward[transform][cell] = row * width + column;
+                backward[transform][row * width + column] = cell;
+            }
+        }
+    }
+
+    int getTransformCount() {
+        return forward.length;
+    }
+
+    int apply(int transform, int cell) {
+        return forward[transform][cell];
+    }
+
+    int revert(int transform, int cell) {
+        return backward[transform][cell];
+    }
+
+    int applyToMask(int transform, int mask) {
+        int result = 0;
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            result |= 1 << forward[transform][Integer.numberOfTrailingZeros(bits)];
+        }
+        return result;
+    }
+
+    long[] applyToBits(int transform, long[] bits, int cells) {
+        long[] result = new long[bits.length];
+        for (int cell = 0; cell < cells; cell++) {
+            if ((bits[cell >>> 6] & (1L << cell)) != 0) {
+                int image = forward[transform][cell];
+                result[image >>> 6] |= 1L << image;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package tictactoe.board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every run of {@code winLength} cells in a row, column or diagonal of one board size.
+ */
+final class WinLines {
+    private static final int[][] DIRECTIONS = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+
+    private final int[][] cellsOfLine;
+
+    WinLines(int width, int height, int winLength) {
+        List<int[]> lines = new ArrayList<>();
+        for (int[] direction : DIRECTIONS) {
+            for (int row = 0; row < height; row++) {
+                for (int column = 0; column < width; column++) {
+                    int lastColumn = column + (winLength - 1) * direction[0];
+                    int lastRow = row + (winLength - 1) * direction[1];
+                    if (lastColumn < width && lastRow >= 0 && lastRow < height) {
+                        int[] line = new int[winLength];
+                        for (int i = 0; i < winLength; i++) {
+                            line[i] = (row + i * direction[1]) * width + column + i * direction[0];
+                        }
+                        lines.add(line);
+                    }
+                }
+            }
+        }
+        cellsOfLine = lines.toArray(new int[0][]);
+    }
+
+    int getCount() {
+        return cellsOfLine.length;
+    }
+
+    int[] cellsOf(int line) {
+        return cellsOfLine[line];
+    }
+}
@@ -0,0 +1,45 @@
+package tictactoe.board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random 64-bit numbers per cell and symbol; a position's key is the XOR of the numbers of its symbols
+ * and of its board size, so one move changes it with a single XOR.
+ */
+final class Zobrist {
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long[] PIECES = createPieces();
+
+    private Zobrist() {
+    }
+
+    private static long[] createPieces() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] pieces = new long[2 * BoardSize.MAX_SIDE * BoardSize.MAX_SIDE];
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = random.nextLong();
+        }
+        return pieces;
+    }
+
+    static long piece(int cell, char symbol) {
+        return PIECES[2 * cell + (symbol == 'X' ? 0 : 1)];
+    }
+
+    /**
+     * @return key of the empty board, different for every board size
+     */
+    static long empty(BoardSize boardSize) {
+        long key = SEED;
+        key = mix(key ^ boardSize.getWidth());
+        key = mix(key ^ boardSize.getHeight());
+        return mix(key ^ boardSize.getWinLength());
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long key) {
+        key = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L;
+        key = (key ^ (key >>> 27)) * 0x94D049BB133111EBL;
+        return key ^ (key >>> 31);
+    }
+}
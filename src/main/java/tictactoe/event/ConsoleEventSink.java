@@ -0,0 +1,59 @@
+package tictactoe.event;
+
+import tictactoe.board.Field;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Shows a game to the people playing it: prompts, boards after every move and rejected moves.
+ * The writer is flushed only before a human moves and when the game ends.
+ */
+public class ConsoleEventSink implements GameEventSink {
+    private final Writer output;
+
+    public ConsoleEventSink(Writer output) {
+        this.output = output;
+    }
+
+    @Override
+    public void moveRequested(String prompt, boolean human) {
+        try {
+            output.append(prompt).append('\n');
+            if (human) {
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void moveMade(Field field, int cell, int moveCount) {
+        try {
+            field.printTo(output);
+            output.append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void invalidMove(String message) {
+        try {
+            output.append(message).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void gameOver(Field field, int moveCount) {
+        try {
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package tictactoe.event;
+
+import tictactoe.board.Field;
+
+/**
+ * Receives what happens in a game as it happens. Events carry only what the game already holds, the
+ * position and a few ints, so nothing is formatted for a sink that doesn't ask and {@link #NONE} costs
+ * a call that does nothing.
+ */
+public interface GameEventSink {
+    /**
+     * Ignores every event, for headless games.
+     */
+    GameEventSink NONE = new GameEventSink() {
+    };
+
+    /**
+     * @param prompt what the player to move is told
+     * @param human true when a person makes the move, so anything pending should be shown first
+     */
+    default void moveRequested(String prompt, boolean human) {
+    }
+
+    /**
+     * @param cell the cell just taken
+     * @param moveCount moves made so far, this one included
+     */
+    default void moveMade(Field field, int cell, int moveCount) {
+    }
+
+    /**
+     * @param message why the move was rejected; the same player moves again
+     */
+    default void invalidMove(String message) {
+    }
+
+    /**
+     * @param field the final position
+     */
+    default void gameOver(Field field, int moveCount) {
+    }
+}
@@ -0,0 +1,45 @@
+package tictactoe.event;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tictactoe.board.Field;
+
+import static org.apache.logging.log4j.util.Unbox.box;
+
+/**
+ * Logs games through Log4j2 without producing garbage: messages are parameterized, ints are boxed into
+ * reused buffers and the other parameters are constants. {@code log4j2.xml} makes the {@code tictactoe.event}
+ * loggers asynchronous, so a game only hands its event to a ring buffer and goes on.
+ * Any number of games may share a sink.
+ */
+public class Log4jEventSink implements GameEventSink {
+    private final Logger logger;
+
+    public Log4jEventSink() {
+        this(LogManager.getLogger(Log4jEventSink.class));
+    }
+
+    Log4jEventSink(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void moveRequested(String prompt, boolean human) {
+        logger.debug("Waiting for a move: {}", prompt);
+    }
+
+    @Override
+    public void moveMade(Field field, int cell, int moveCount) {
+        logger.info("{} took cell {} with move {}", field.isX(cell) ? "X" : "O", box(cell), box(moveCount));
+    }
+
+    @Override
+    public void invalidMove(String message) {
+        logger.info("Rejected move: {}", message);
+    }
+
+    @Override
+    public void gameOver(Field field, int moveCount) {
+        logger.info("{} after {} moves", field.getState().getName(), box(moveCount));
+    }
+}
@@ -0,0 +1,147 @@
+package tictactoe.game;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+import tictactoe.event.ConsoleEventSink;
+import tictactoe.event.GameEventSink;
+import tictactoe.player.AsyncPlayer;
+import tictactoe.util.Either;
+
+import java.io.Writer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link GameLoop} driven by move completions: each move is asked for when the previous one arrives,
+ * on the thread that made it, so no thread waits for a game and a few threads keep many games going.
+ * Moves that are made right away are played in a loop, so the stack stays flat however long the game.
+ */
+public class AsyncGameLoop {
+    private final AsyncPlayer[] players;
+    private final GameEventSink events;
+    private final CompletableFuture<State> result = new CompletableFuture<>();
+    private int moveCount;
+    private Field field;
+
+    /**
+     * @param output receives prompts and boards; it's flushed only before a human moves and when the game ends
+     */
+    public AsyncGameLoop(AsyncPlayer[] players, BoardSize boardSize, Writer output) {
+        this(players, boardSize, new ConsoleEventSink(output));
+    }
+
+    /**
+     * @param events is told about the game from whichever thread made the last move, one event at a time
+     */
+    public AsyncGameLoop(AsyncPlayer[] players, BoardSize boardSize, GameEventSink events) {
+        this.players = players;
+        this.events = events;
+        moveCount = 0;
+        field = Field.empty(boardSize);
+    }
+
+    /**
+     * Starts the game; call it once.
+     *
+     * @return completes with the final state, or exceptionally when a player or the sink fails
+     */
+    public CompletionStage<State> run() {
+        requestMove();
+        return result;
+    }
+
+    private void requestMove() {
+        // moves that are already made when asked for are played by this loop rather than from their
+        // callback, which would call back in here and grow the stack with every move of the game
+        while (true) {
+            AsyncPlayer currentPlayer = players[moveCount % 2];
+            PendingMove pending = new PendingMove();
+            try {
+                events.moveRequested(currentPlayer.moveMessage(), currentPlayer.isHuman());
+                currentPlayer.nextMoveAsync(field).whenComplete(pending);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (pending.compareAndSet(PendingMove.WAITING, PendingMove.LATE)) {
+                return;
+            }
+            if (!onMove(pending.nextField, pending.failure)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return whether the game goes on
+     */
+    private boolean onMove(Either<String, Field> nextField, Throwable failure) {
+        if (failure != null) {
+            result.completeExceptionally(failure);
+            return false;
+        }
+        try {
+            if (nextField.isRight()) {
+                int cell = nextField.getRight().getMoveSince(field);
+                moveCount++;
+                field = nextField.getRight();
+                events.moveMade(field, cell, moveCount);
+            } else {
+                events.invalidMove(nextField.getLeft());
+            }
+            if (field.getState().isTerminal()) {
+                events.gameOver(field, moveCount);
+                result.complete(field.getState());
+                return false;
+            }
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * A requested move. Whoever comes second, the move or the loop that asked for it giving up waiting,
+     * goes on with the game, so it's never played twice or not at all.
+     */
+    private final class PendingMove extends AtomicInteger implements BiConsumer<Either<String, Field>, Throwable> {
+        static final int WAITING = 0;
+        static final int MADE = 1;
+        static final int LATE = 2;
+
+        Either<String, Field> nextField;
+        Throwable failure;
+
+        @Override
+        public void accept(Either<String, Field> nextField, Throwable failure) {
+            this.nextField = nextField;
+            this.failure = failure;
+            if (compareAndSet(WAITING, MADE)) {
+                return;
+            }
+            try {
+                if (onMove(nextField, failure)) {
+                    requestMove();
+                }
+            } catch (Throwable e) {
+                // the stage this callback belongs to is never looked at, so nothing else would report it
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Safe to read once {@link #run()} has completed.
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public Field getField() {
+        return field;
+    }
+}
@@ -1,12 +1,16 @@
 package tictactoe.game;
 
+import tictactoe.board.BoardSize;
 import tictactoe.util.Either;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 public class CommandValidator {
+    private static final Pattern GAME_COUNT = Pattern.compile("\\d+");
+
     private final List<String> supportedLevelCommands;
     private final List<String> supportedFunctionalCommands;
 
@@ -24,16 +28,62 @@ public class CommandValidator {
             return Either.right(commands);
         }
 
-        if (commands.length != 3) {
+        if (commands.length > 0 && "simulate".equals(commands[0])) {
+            return validateSimulation(commands);
+        }
+
+        if (commands.length == 4 && BoardSize.isBoardSize(commands[3])
+                && Arrays.stream(commands, 0, 3).noneMatch(BoardSize::isBoardSize)
+                && Arrays.stream(commands).noneMatch(CommandValidator::isGameCount)) {
+            Either<String, BoardSize> boardSize = BoardSize.fromString(commands[3]);
+            return boardSize.isLeft() ? Either.left(boardSize.getLeft()) : Either.right(commands);
+        }
+
+        if (commands.length != 3 || Arrays.stream(commands).anyMatch(BoardSize::isBoardSize)
+                || Arrays.stream(commands).anyMatch(CommandValidator::isGameCount)) {
             return Either.left("Bad parameters!");
         }
 
         return Either.right(commands);
     }
 
+    // simulate LEVEL LEVEL GAMES [BOARD_SIZE]
+    private Either<String, String[]> validateSimulation(String[] commands) {
+        if (commands.length < 4 || commands.length > 5
+                || !supportedLevelCommands.contains(commands[1]) || !supportedLevelCommands.contains(commands[2])
+                || !isGameCount(commands[3])
+                || commands.length == 5 && !BoardSize.isBoardSize(commands[4])) {
+            return Either.left("Bad parameters!");
+        }
+        if (parseGameCount(commands[3]) <= 0) {
+            return Either.left("Number of games should be from 1 to " + Long.MAX_VALUE + "!");
+        }
+        if (commands.length == 5) {
+            Either<String, BoardSize> boardSize = BoardSize.fromString(commands[4]);
+            if (boardSize.isLeft()) {
+                return Either.left(boardSize.getLeft());
+            }
+        }
+        return Either.right(commands);
+    }
+
+    private static boolean isGameCount(String token) {
+        return token != null && GAME_COUNT.matcher(token).matches();
+    }
+
+    static long parseGameCount(String token) {
+        try {
+            return Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     private boolean isSupport(String command) {
         return !Objects.nonNull(command) ||
                 supportedLevelCommands.contains(command) ||
-                supportedFunctionalCommands.contains(command);
+                supportedFunctionalCommands.contains(command) ||
+                BoardSize.isBoardSize(command) ||
+                isGameCount(command);
     }
 }
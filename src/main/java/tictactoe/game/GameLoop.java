@@ -1,47 +1,95 @@
 package tictactoe.game;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import tictactoe.board.BoardSize;
 import tictactoe.board.Field;
 import tictactoe.board.State;
+import tictactoe.event.ConsoleEventSink;
+import tictactoe.event.GameEventSink;
+import tictactoe.journal.GameRecord;
 import tictactoe.player.Player;
 import tictactoe.util.Either;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
+
 public class GameLoop {
-    private static final Logger LOGGER = LoggerFactory.getLogger(GameLoop.class);
     private final Player[] players;
+    private final GameEventSink events;
+    private final int[] moves;
     private int moveCount;
     private Field field;
+    private long startMillis;
+    private long durationNanos;
 
     GameLoop(Player[] players) {
+        this(players, BoardSize.CLASSIC);
+    }
+
+    GameLoop(Player[] players, BoardSize boardSize) {
+        this(players, boardSize, new BufferedWriter(new OutputStreamWriter(System.out)));
+    }
+
+    /**
+     * @param output receives prompts and boards; it's flushed only before a human moves and when the game ends
+     */
+    GameLoop(Player[] players, BoardSize boardSize, Writer output) {
+        this(players, boardSize, new ConsoleEventSink(output));
+    }
+
+    GameLoop(Player[] players, BoardSize boardSize, GameEventSink events) {
         this.players = players;
+        this.events = events;
+        moves = new int[boardSize.getCells()];
         moveCount = 0;
-        field = Field.fromCells("         ");
+        field = Field.empty(boardSize);
     }
 
     State run() {
         Player currentPlayer;
+        Player waitingPlayer;
+        startMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
         do {
             if (moveCount % 2 == 0) {
                 currentPlayer = players[0];
+                waitingPlayer = players[1];
             } else {
                 currentPlayer = players[1];
+                waitingPlayer = players[0];
             }
 
-            LOGGER.info(currentPlayer.moveMessage());
+            events.moveRequested(currentPlayer.moveMessage(), currentPlayer.isHuman());
+            if (currentPlayer.isHuman()) {
+                waitingPlayer.ponder(field);
+            }
             Either<String, Field> nextField = currentPlayer.nextMove(field);
             if (nextField.isRight()) {
-                moveCount++;
+                int cell = nextField.getRight().getMoveSince(field);
+                moves[moveCount++] = cell;
                 field = nextField.getRight();
-                LOGGER.info(field.getPrintableField());
+                events.moveMade(field, cell, moveCount);
             } else {
-                LOGGER.info(nextField.getLeft());
+                events.invalidMove(nextField.getLeft());
             }
         } while (!field.getState().isTerminal());
+        durationNanos = System.nanoTime() - start;
+        players[0].stopPondering();
+        players[1].stopPondering();
+        events.gameOver(field, moveCount);
 
         return field.getState();
     }
 
+    /**
+     * @return the finished game for a journal
+     */
+    GameRecord toRecord(String xLevel, String oLevel) {
+        return new GameRecord(field.getBoardSize(), xLevel, oLevel, field.getState(), startMillis, durationNanos,
+                Arrays.copyOf(moves, moveCount));
+    }
+
     public int getMoveCount() {
         return moveCount;
     }
@@ -50,4 +98,3 @@ public class GameLoop {
         return field;
     }
 }
-
@@ -0,0 +1,169 @@
+package tictactoe.game;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+import tictactoe.event.GameEventSink;
+import tictactoe.journal.GameJournal;
+import tictactoe.journal.GameRecord;
+import tictactoe.player.Player;
+import tictactoe.player.PlayerFactory;
+import tictactoe.util.Either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Plays bot-vs-bot games on every worker of a pool without printing anything. Each worker gets its own
+ * pair of players and plays its share of the games one after another; results go straight into shared
+ * {@link LongAdder} counters, so workers never wait for each other. Bots created from levels search on
+ * a single thread, the workers already keep every core busy.
+ */
+public class Simulation {
+    private final ForkJoinPool pool;
+    private final GameJournal journal;
+    private final GameEventSink events;
+
+    public Simulation(ForkJoinPool pool) {
+        this(pool, null);
+    }
+
+    /**
+     * @param journal records every game, nothing is recorded when it's null
+     */
+    public Simulation(ForkJoinPool pool, GameJournal journal) {
+        this(pool, journal, GameEventSink.NONE);
+    }
+
+    /**
+     * @param events is told when a game is over, by all workers at once; it hears of no single moves
+     */
+    public Simulation(ForkJoinPool pool, GameJournal journal, GameEventSink events) {
+        this.pool = pool;
+        this.journal = journal;
+        this.events = events;
+    }
+
+    /**
+     * Plays games between players of the given levels, see {@link PlayerFactory#createSingleThreaded}.
+     */
+    public SimulationResult run(String xLevel, String oLevel, BoardSize boardSize, long games) {
+        return run(xLevel, () -> PlayerFactory.createSingleThreaded(xLevel, "X"),
+                oLevel, () -> PlayerFactory.createSingleThreaded(oLevel, "O"), boardSize, games);
+    }
+
+    /**
+     * @param x creates the X player of a worker, called once per worker
+     * @param o creates the O player of a worker, called once per worker
+     */
+    public SimulationResult run(Supplier<Player> x, Supplier<Player> o, BoardSize boardSize, long games) {
+        return run("", x, "", o, boardSize, games);
+    }
+
+    private SimulationResult run(String xLevel, Supplier<Player> x, String oLevel, Supplier<Player> o,
+                                 BoardSize boardSize, long games) {
+        long start = System.nanoTime();
+        Counters counters = new Counters(boardSize.getCells());
+        int workers = (int) Math.min(pool.getParallelism(), Math.max(1, games));
+        List<Worker> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            long share = games / workers + (i < games % workers ? 1 : 0);
+            tasks.add(new Worker(xLevel, x, oLevel, o, boardSize, share, counters, journal, events));
+        }
+        tasks.forEach(pool::execute);
+        tasks.forEach(Worker::join);
+
+        long[] moveCounts = new long[counters.moveCounts.length];
+        for (int i = 0; i < moveCounts.length; i++) {
+            moveCounts[i] = counters.moveCounts[i].sum();
+        }
+        return new SimulationResult(counters.xWins.sum(), counters.oWins.sum(), counters.draws.sum(), moveCounts,
+                workers, System.nanoTime() - start);
+    }
+
+    private static final class Counters {
+        final LongAdder xWins = new LongAdder();
+        final LongAdder oWins = new LongAdder();
+        final LongAdder draws = new LongAdder();
+        // games by the number of moves they took
+        final LongAdder[] moveCounts;
+
+        Counters(int cells) {
+            moveCounts = new LongAdder[cells + 1];
+            for (int i = 0; i < moveCounts.length; i++) {
+                moveCounts[i] = new LongAdder();
+            }
+        }
+
+        void record(State state, int moves) {
+            if (state == State.X_WINS) {
+                xWins.increment();
+            } else if (state == State.O_WINS) {
+                oWins.increment();
+            } else {
+                draws.increment();
+            }
+            moveCounts[moves].increment();
+        }
+    }
+
+    private static final class Worker extends RecursiveAction {
+        private final String xLevel;
+        private final Supplier<Player> x;
+        private final String oLevel;
+        private final Supplier<Player> o;
+        private final BoardSize boardSize;
+        private final long games;
+        private final Counters counters;
+        private final GameJournal journal;
+        private final GameEventSink events;
+
+        Worker(String xLevel, Supplier<Player> x, String oLevel, Supplier<Player> o, BoardSize boardSize, long games,
+               Counters counters, GameJournal journal, GameEventSink events) {
+            this.xLevel = xLevel;
+            this.x = x;
+            this.oLevel = oLevel;
+            this.o = o;
+            this.boardSize = boardSize;
+            this.games = games;
+            this.counters = counters;
+            this.journal = journal;
+            this.events = events;
+        }
+
+        @Override
+        protected void compute() {
+            Player[] players = {x.get(), o.get()};
+            Field empty = Field.empty(boardSize);
+            int[] cells = new int[boardSize.getCells()];
+            for (long game = 0; game < games; game++) {
+                long startMillis = journal != null ? System.currentTimeMillis() : 0;
+                long start = journal != null ? System.nanoTime() : 0;
+                Field field = empty;
+                int moves = 0;
+                while (!field.getState().isTerminal()) {
+                    Either<String, Field> next = players[moves % 2].nextMove(field);
+                    if (next.isLeft()) {
+                        throw new IllegalStateException(next.getLeft());
+                    }
+                    if (journal != null) {
+                        cells[moves] = next.getRight().getMoveSince(field);
+                    }
+                    field = next.getRight();
+                    moves++;
+                }
+                counters.record(field.getState(), moves);
+                events.gameOver(field, moves);
+                if (journal != null) {
+                    journal.append(new GameRecord(boardSize, xLevel, oLevel, field.getState(), startMillis,
+                            System.nanoTime() - start, Arrays.copyOf(cells, moves)));
+                }
+            }
+        }
+    }
+}
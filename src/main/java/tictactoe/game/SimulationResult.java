@@ -0,0 +1,79 @@
+package tictactoe.game;
+
+/**
+ * Outcome of a {@link Simulation}: results from X's point of view, a histogram of game lengths and the throughput.
+ */
+public class SimulationResult {
+    private final long xWins;
+    private final long oWins;
+    private final long draws;
+    private final long[] moveCounts;
+    private final int threads;
+    private final long elapsedNanos;
+
+    SimulationResult(long xWins, long oWins, long draws, long[] moveCounts, int threads, long elapsedNanos) {
+        this.xWins = xWins;
+        this.oWins = oWins;
+        this.draws = draws;
+        this.moveCounts = moveCounts;
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return xWins + oWins + draws;
+    }
+
+    public long getXWins() {
+        return xWins;
+    }
+
+    public long getOWins() {
+        return oWins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * @return number of games that took {@code moves} moves
+     */
+    public long getGamesOfLength(int moves) {
+        return moves < moveCounts.length ? moveCounts[moves] : 0;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return lines for the console: throughput, win/draw/loss rates and the games of every length that occurred
+     */
+    public String describe(String xName, String oName) {
+        StringBuilder description = new StringBuilder()
+                .append(String.format("Played %d games on %d threads in %.1f s, %.0f games/s%n",
+                        getGames(), threads, elapsedNanos / 1e9, getGamesPerSecond()))
+                .append(String.format("X (%s) wins %.1f%%, O (%s) wins %.1f%%, draws %.1f%%%n",
+                        xName, percent(xWins), oName, percent(oWins), percent(draws)))
+                .append("Moves per game:");
+        for (int moves = 0; moves < moveCounts.length; moves++) {
+            if (moveCounts[moves] > 0) {
+                description.append(String.format("%n%4d: %d (%.1f%%)", moves, moveCounts[moves], percent(moveCounts[moves])));
+            }
+        }
+        return description.toString();
+    }
+
+    private double percent(long count) {
+        return getGames() == 0 ? 0 : 100.0 * count / getGames();
+    }
+}
@@ -1,56 +1,139 @@
 package tictactoe.game;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import tictactoe.board.BoardSize;
 import tictactoe.board.State;
+import tictactoe.event.ConsoleEventSink;
+import tictactoe.event.GameEventSink;
+import tictactoe.journal.GameJournal;
 import tictactoe.player.Player;
 import tictactoe.player.PlayerFactory;
 import tictactoe.util.Either;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class StartMenu {
-    private static final Logger LOGGER = LoggerFactory.getLogger(StartMenu.class);
     private final Scanner scanner;
     private final CommandValidator commandValidator;
+    private final Writer output;
+    private final GameJournal journal;
+    private final GameEventSink gameEvents;
+    private final GameEventSink simulationEvents;
     private final AtomicBoolean isRunning;
     private String lastState;
 
     public StartMenu(Scanner scanner, CommandValidator commandValidator) {
+        this(scanner, commandValidator, new BufferedWriter(new OutputStreamWriter(System.out)));
+    }
+
+    public StartMenu(Scanner scanner, CommandValidator commandValidator, Writer output) {
+        this(scanner, commandValidator, output, null);
+    }
+
+    /**
+     * @param journal records every finished game and simulated game, nothing is recorded when it's null
+     */
+    public StartMenu(Scanner scanner, CommandValidator commandValidator, Writer output, GameJournal journal) {
+        this(scanner, commandValidator, output, journal, GameEventSink.NONE);
+    }
+
+    /**
+     * @param simulationEvents hears when a simulated game is over; games played from the menu go to {@code output}
+     */
+    public StartMenu(Scanner scanner, CommandValidator commandValidator, Writer output, GameJournal journal,
+                     GameEventSink simulationEvents) {
         this.scanner = scanner;
         this.commandValidator = commandValidator;
+        this.output = output;
+        this.journal = journal;
+        this.gameEvents = new ConsoleEventSink(output);
+        this.simulationEvents = simulationEvents;
         isRunning = new AtomicBoolean(true);
         lastState = "initial";
     }
 
     public void start() {
         while (isRunning.get()) {
-            LOGGER.info("Input command: ");
+            print("Input command: ");
+            flush();
             String command = scanner.nextLine();
 
             validateAndRun(command);
         }
+        flush();
     }
 
     public void validateAndRun(String command) {
         Either<String, String[]> validation = commandValidator.validate(command);
 
         if (validation.isLeft()) {
-            LOGGER.info(validation.getLeft());
+            print(validation.getLeft());
             lastState = validation.getLeft();
         } else if ("exit".equals(validation.getRight()[0])) {
             isRunning.set(false);
             lastState = "exiting";
         } else if ("start".equals(validation.getRight()[0])) {
             String[] commands = validation.getRight();
-            Player player1 = PlayerFactory.create(commands[1], "X");
-            Player player2 = PlayerFactory.create(commands[2], "O");
+            Player player1 = PlayerFactory.create(commands[1], "X", scanner);
+            Player player2 = PlayerFactory.create(commands[2], "O", scanner);
+
+            BoardSize boardSize = commands.length == 4
+                    ? BoardSize.fromString(commands[3]).getRight()
+                    : BoardSize.CLASSIC;
 
-            GameLoop gameLoop = new GameLoop(new Player[]{player1, player2});
+            GameLoop gameLoop = new GameLoop(new Player[]{player1, player2}, boardSize, gameEvents);
             State run = gameLoop.run();
-            LOGGER.info(run.getName());
+            if (journal != null) {
+                journal.append(gameLoop.toRecord(commands[1], commands[2]));
+            }
+            print(run.getName());
             lastState = "game ended";
+        } else if ("simulate".equals(validation.getRight()[0])) {
+            simulate(validation.getRight());
+        }
+    }
+
+    private void simulate(String[] commands) {
+        if ("user".equals(commands[1]) || "user".equals(commands[2])) {
+            print("Only bots can play simulations!");
+            lastState = "Only bots can play simulations!";
+            return;
+        }
+        BoardSize boardSize = commands.length == 5
+                ? BoardSize.fromString(commands[4]).getRight()
+                : BoardSize.CLASSIC;
+        long games = CommandValidator.parseGameCount(commands[3]);
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            SimulationResult result = new Simulation(pool, journal, simulationEvents)
+                    .run(commands[1], commands[2], boardSize, games);
+            print(result.describe(commands[1], commands[2]));
+        } finally {
+            pool.shutdown();
+        }
+        lastState = "simulation ended";
+    }
+
+    private void print(String line) {
+        try {
+            output.append(line).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
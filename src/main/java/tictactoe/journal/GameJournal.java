@@ -0,0 +1,179 @@
+package tictactoe.journal;
+
+import tictactoe.board.BoardSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Append-only file of {@link GameRecord}s, split into segments of a fixed size that are written through
+ * a memory mapping. Appending copies a record into the mapped segment under a short lock, no system call
+ * is involved; the written pages reach the disk when {@link #flush()} is called, which happens on its own
+ * after every batch of records, so a crash loses at most the last batch.
+ * A journal opened on an existing directory starts a new segment after the ones already there.
+ */
+public class GameJournal implements AutoCloseable {
+    public static final int DEFAULT_SEGMENT_BYTES = 16 << 20;
+    public static final int DEFAULT_FORCE_EVERY = 4096;
+
+    static final String SEGMENT_SUFFIX = ".journal";
+    static final int MAX_RECORD_BYTES = GameRecord.HEADER_BYTES + GameRecord.FIXED_BYTES
+            + 2 * GameRecord.MAX_LEVEL_BYTES + BoardSize.MAX_SIDE * BoardSize.MAX_SIDE * Short.BYTES;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int forceEvery;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long segmentNumber;
+    private MappedByteBuffer segment;
+    private int unforcedFrom;
+    private int unforcedRecords;
+    private long records;
+    private boolean closed;
+
+    public GameJournal(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_FORCE_EVERY);
+    }
+
+    /**
+     * @param segmentBytes size of every segment file, enough for the largest record
+     * @param forceEvery records written between two flushes to the disk
+     */
+    public GameJournal(Path directory, int segmentBytes, int forceEvery) {
+        if (segmentBytes < MAX_RECORD_BYTES || forceEvery < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Segments need at least %d bytes and a flush at least one record", MAX_RECORD_BYTES));
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.forceEvery = forceEvery;
+        try {
+            Files.createDirectories(directory);
+            List<Path> existing = segments(directory);
+            segmentNumber = existing.isEmpty() ? 0 : number(existing.get(existing.size() - 1)) + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segment = map(segmentNumber);
+    }
+
+    /**
+     * Adds a game to the journal; it's readable right away and durable after the next flush.
+     */
+    public void append(GameRecord record) {
+        int length = record.getEncodedLength();
+        MappedByteBuffer toForce = null;
+        int forceFrom = 0;
+        int forceTo = 0;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The journal is closed");
+            }
+            if (segment.remaining() < length + GameRecord.HEADER_BYTES) {
+                // leaves at least a zero length behind the last record, so readers know where the segment ends
+                segment.force(unforcedFrom, segment.position() - unforcedFrom);
+                segment = map(++segmentNumber);
+                unforcedFrom = 0;
+                unforcedRecords = 0;
+            }
+            record.writeTo(segment);
+            records++;
+            if (++unforcedRecords >= forceEvery) {
+                toForce = segment;
+                forceFrom = unforcedFrom;
+                forceTo = segment.position();
+                unforcedFrom = forceTo;
+                unforcedRecords = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (toForce != null) {
+            // other threads keep appending behind this range meanwhile
+            toForce.force(forceFrom, forceTo - forceFrom);
+        }
+    }
+
+    /**
+     * Writes every appended record to the disk.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            segment.force(unforcedFrom, segment.position() - unforcedFrom);
+            unforcedFrom = segment.position();
+            unforcedRecords = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return records appended since this journal was opened
+     */
+    public long getRecords() {
+        lock.lock();
+        try {
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Flushes the records; later appends fail. The last segment keeps its full size, the unused end stays zero.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (!closed) {
+                flush();
+                closed = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the segment files of a journal in the order they were written
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static long number(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private MappedByteBuffer map(long number) {
+        Path file = directory.resolve(String.format("%019d%s", number, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping outlives the channel
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package tictactoe.journal;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+import tictactoe.util.Either;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * One finished game: board, player levels, result, when it started and how long it took, and its moves as cells.
+ * In a journal it takes a length-prefixed record of about 40 bytes on 3x3; boards of up to 16 cells
+ * store a move in 4 bits, larger ones in 16.
+ */
+public final class GameRecord {
+    static final int HEADER_BYTES = Integer.BYTES;
+    static final int MAX_LEVEL_BYTES = 255;
+
+    static final int FIXED_BYTES = 3 + 1 + Short.BYTES + 2 * Long.BYTES + 2;
+    private static final State[] RESULTS = {State.DRAW, State.X_WINS, State.O_WINS};
+
+    private final BoardSize boardSize;
+    private final String xLevel;
+    private final String oLevel;
+    private final State result;
+    private final long startMillis;
+    private final long durationNanos;
+    private final int[] moves;
+    private final byte[] xLevelBytes;
+    private final byte[] oLevelBytes;
+
+    /**
+     * @param xLevel level of the X player, e.g. {@code hard}, empty when unknown
+     * @param moves cells in the order they were taken, X first
+     */
+    public GameRecord(BoardSize boardSize, String xLevel, String oLevel, State result,
+                      long startMillis, long durationNanos, int[] moves) {
+        if (resultCode(result) < 0) {
+            throw new IllegalArgumentException("Only finished games can be recorded: " + result);
+        }
+        this.boardSize = boardSize;
+        this.xLevel = xLevel;
+        this.oLevel = oLevel;
+        this.result = result;
+        this.startMillis = startMillis;
+        this.durationNanos = durationNanos;
+        this.moves = moves;
+        xLevelBytes = levelBytes(xLevel);
+        oLevelBytes = levelBytes(oLevel);
+    }
+
+    public BoardSize getBoardSize() {
+        return boardSize;
+    }
+
+    public String getXLevel() {
+        return xLevel;
+    }
+
+    public String getOLevel() {
+        return oLevel;
+    }
+
+    public State getResult() {
+        return result;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    public int getMove(int index) {
+        return moves[index];
+    }
+
+    /**
+     * Plays the moves again.
+     *
+     * @return the position after {@code moveCount} moves
+     */
+    public Field replay(int moveCount) {
+        Field field = Field.empty(boardSize);
+        for (int i = 0; i < moveCount; i++) {
+            Either<String, Field> next = field.nextMove(moves[i], i % 2 == 0 ? "X" : "O");
+            if (next.isLeft()) {
+                throw new IllegalStateException(next.getLeft());
+            }
+            field = next.getRight();
+        }
+        return field;
+    }
+
+    /**
+     * @return the whole record, header included
+     */
+    int getEncodedLength() {
+        return HEADER_BYTES + FIXED_BYTES + xLevelBytes.length + oLevelBytes.length
+                + movesLength(boardSize.getCells(), moves.length);
+    }
+
+    /**
+     * Writes the record at the buffer's position and moves past it; the length goes in last, so a reader
+     * never takes a half-written record for a whole one.
+     */
+    void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.position(start + HEADER_BYTES);
+        buffer.put((byte) boardSize.getWidth())
+                .put((byte) boardSize.getHeight())
+                .put((byte) boardSize.getWinLength())
+                .put((byte) resultCode(result))
+                .putShort((short) moves.length)
+                .putLong(startMillis)
+                .putLong(durationNanos);
+        buffer.put((byte) xLevelBytes.length).put(xLevelBytes);
+        buffer.put((byte) oLevelBytes.length).put(oLevelBytes);
+        if (boardSize.getCells() <= 16) {
+            for (int i = 0; i < moves.length; i += 2) {
+                int second = i + 1 < moves.length ? moves[i + 1] : 0;
+                buffer.put((byte) (moves[i] << 4 | second));
+            }
+        } else {
+            for (int move : moves) {
+                buffer.putShort((short) move);
+            }
+        }
+        buffer.putInt(start, buffer.position() - start - HEADER_BYTES);
+    }
+
+    /**
+     * Reads the record at the buffer's position and moves past it.
+     *
+     * @return null when there is no record there
+     * @throws IllegalStateException when the record there can't be a game, the buffer stays where it was
+     */
+    static GameRecord readFrom(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int start = buffer.position();
+        int length = buffer.getInt(start);
+        if (length <= 0 || length > buffer.remaining() - HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer record = buffer.duplicate();
+        record.limit(start + HEADER_BYTES + length);
+        record.position(start + HEADER_BYTES);
+        GameRecord result;
+        try {
+            result = decode(record, start);
+        } catch (BufferUnderflowException e) {
+            throw corrupt(start, "its contents run past its length of " + length + " bytes");
+        }
+        if (record.hasRemaining()) {
+            throw corrupt(start, record.remaining() + " bytes are left over");
+        }
+        buffer.position(record.limit());
+        return result;
+    }
+
+    private static GameRecord decode(ByteBuffer record, int start) {
+        int width = record.get() & 0xFF;
+        int height = record.get() & 0xFF;
+        int winLength = record.get() & 0xFF;
+        int resultCode = record.get();
+        if (resultCode < 0 || resultCode >= RESULTS.length) {
+            throw corrupt(start, "unknown result " + resultCode);
+        }
+        Either<String, BoardSize> size = BoardSize.of(width, height, winLength);
+        if (size.isLeft()) {
+            throw corrupt(start, String.format("board %dx%dx%d, %s", width, height, winLength, size.getLeft()));
+        }
+        BoardSize boardSize = size.getRight();
+        int cells = boardSize.getCells();
+        int moveCount = record.getShort() & 0xFFFF;
+        if (moveCount > cells) {
+            throw corrupt(start, moveCount + " moves on " + cells + " cells");
+        }
+        long startMillis = record.getLong();
+        long durationNanos = record.getLong();
+        String xLevel = getLevel(record);
+        String oLevel = getLevel(record);
+        int[] moves = new int[moveCount];
+        if (cells <= 16) {
+            for (int i = 0; i < moveCount; i += 2) {
+                int pair = record.get() & 0xFF;
+                moves[i] = pair >>> 4;
+                if (i + 1 < moveCount) {
+                    moves[i + 1] = pair & 0xF;
+                }
+            }
+        } else {
+            for (int i = 0; i < moveCount; i++) {
+                moves[i] = record.getShort() & 0xFFFF;
+            }
+        }
+        for (int move : moves) {
+            if (move >= cells) {
+                throw corrupt(start, "move to cell " + move + " of " + cells);
+            }
+        }
+        return new GameRecord(boardSize, xLevel, oLevel, RESULTS[resultCode], startMillis, durationNanos, moves);
+    }
+
+    private static IllegalStateException corrupt(int position, String reason) {
+        return new IllegalStateException("Corrupt journal record at byte " + position + ": " + reason);
+    }
+
+    private static int resultCode(State result) {
+        return Arrays.asList(RESULTS).indexOf(result);
+    }
+
+    private static int movesLength(int cells, int moveCount) {
+        return cells <= 16 ? (moveCount + 1) / 2 : moveCount * Short.BYTES;
+    }
+
+    private static byte[] levelBytes(String level) {
+        byte[] bytes = level.getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= MAX_LEVEL_BYTES ? bytes : Arrays.copyOf(bytes, MAX_LEVEL_BYTES);
+    }
+
+    private static String getLevel(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.get() & 0xFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s vs %s: %s in %d moves", boardSize, xLevel, oLevel, result.getName(), moves.length);
+    }
+}
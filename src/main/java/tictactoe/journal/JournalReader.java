@@ -0,0 +1,102 @@
+package tictactoe.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the records of a {@link GameJournal} one at a time, segment after segment, for replays and
+ * analytics. Only one segment is mapped at a time and records are decoded as they're asked for, so
+ * journals of any length can be streamed; segments created after the reader was opened aren't seen.
+ * A record that can't be a game ends the reading with an {@link IllegalStateException} naming its segment.
+ */
+public class JournalReader implements Iterator<GameRecord> {
+    private final List<Path> segments;
+    private int nextSegment;
+    private MappedByteBuffer segment;
+    private GameRecord next;
+
+    public JournalReader(Path directory) {
+        try {
+            segments = GameJournal.segments(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return every record of the journal in {@code directory}, in the order they were appended
+     */
+    public static Stream<GameRecord> stream(Path directory) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new JournalReader(directory),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Prints how often every pairing ended how, e.g. {@code hard vs easy: X wins 812}.
+     *
+     * @param args the journal directory
+     */
+    public static void main(String[] args) {
+        Map<String, Long> outcomes;
+        try (Stream<GameRecord> records = stream(Paths.get(args[0]))) {
+            outcomes = records.collect(Collectors.groupingBy(
+                    record -> record.getXLevel() + " vs " + record.getOLevel() + ": " + record.getResult().getName(),
+                    TreeMap::new, Collectors.counting()));
+        }
+        outcomes.forEach((outcome, games) -> System.out.println(outcome + " " + games));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (segment != null) {
+                try {
+                    next = GameRecord.readFrom(segment);
+                } catch (IllegalStateException e) {
+                    throw new IllegalStateException(segments.get(nextSegment - 1) + ": " + e.getMessage(), e);
+                }
+                if (next != null) {
+                    break;
+                }
+            }
+            if (nextSegment == segments.size()) {
+                return false;
+            }
+            segment = map(segments.get(nextSegment++));
+        }
+        return true;
+    }
+
+    @Override
+    public GameRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        GameRecord record = next;
+        next = null;
+        return record;
+    }
+
+    private static MappedByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package tictactoe.learning;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Learns a {@link ValueTable} by playing 3x3 games against itself with TD(0): after every greedy move
+ * the value of the previous position moves towards the value of the new one, finished positions are
+ * worth their result. Moves are random with the exploration probability and don't teach anything.
+ * Every worker of the pool plays its share of the games and updates the one shared table without locks
+ * (Hogwild); an update lost to a racing write is just one sample less.
+ * Run with {@code ./gradlew train}.
+ */
+public class SelfPlayTrainer {
+    static final double LEARNING_RATE = 0.1;
+    static final double EXPLORATION = 0.1;
+
+    private final ForkJoinPool pool;
+    // the table holds floats, so updates are computed in float too
+    private final float learningRate;
+    private final double exploration;
+    private final SplittableRandom random;
+
+    public SelfPlayTrainer(ForkJoinPool pool, SplittableRandom random) {
+        this(pool, LEARNING_RATE, EXPLORATION, random);
+    }
+
+    /**
+     * @param exploration probability of a random move instead of the best one known
+     */
+    public SelfPlayTrainer(ForkJoinPool pool, double learningRate, double exploration, SplittableRandom random) {
+        this.pool = pool;
+        this.learningRate = (float) learningRate;
+        this.exploration = exploration;
+        this.random = random;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path target = Paths.get(args[0]);
+        long games = args.length > 1 ? Long.parseLong(args[1]) : 2_000_000;
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        long start = System.nanoTime();
+        ValueTable table = new SelfPlayTrainer(pool, new SplittableRandom()).train(games);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(target)) {
+            table.writeTo(out);
+        }
+        System.out.printf("Played %d games on %d threads in %.1f s (%.0f games/s), wrote %s%n",
+                games, pool.getParallelism(), seconds, games / seconds, target);
+    }
+
+    public ValueTable train(long games) {
+        return train(new ValueTable(new float[ValueTable.POSITIONS]), games);
+    }
+
+    /**
+     * Keeps training {@code table} in place.
+     */
+    public ValueTable train(ValueTable table, long games) {
+        int workers = pool.getParallelism();
+        List<Worker> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            long share = games / workers + (i < games % workers ? 1 : 0);
+            tasks.add(new Worker(table.values, share, random.split()));
+        }
+        tasks.forEach(pool::execute);
+        tasks.forEach(Worker::join);
+        return table;
+    }
+
+    /**
+     * @return result of a finished game from X's point of view
+     */
+    static float reward(State state) {
+        return state == State.X_WINS ? 1 : state == State.O_WINS ? -1 : 0;
+    }
+
+    private final class Worker extends RecursiveAction {
+        private final float[] values;
+        private final long games;
+        private final SplittableRandom random;
+        private final int[] moves = new int[BoardSize.CLASSIC.getCells()];
+
+        Worker(float[] values, long games, SplittableRandom random) {
+            this.values = values;
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            Field empty = Field.empty(BoardSize.CLASSIC);
+            for (long game = 0; game < games; game++) {
+                playOnce(empty);
+            }
+        }
+
+        private void playOnce(Field field) {
+            String symbol = "X";
+            int previous = field.getPositionCode();
+            while (!field.getState().isTerminal()) {
+                int count = field.fillPossibleMoves(moves);
+                boolean exploring = random.nextDouble() < exploration;
+                int move = exploring ? moves[random.nextInt(count)] : bestMove(field, symbol, count);
+                field = field.nextMove(move, symbol).getRight();
+
+                int code = field.getPositionCode();
+                if (field.getState().isTerminal()) {
+                    values[code] = reward(field.getState());
+                }
+                if (!exploring) {
+                    values[previous] += learningRate * (values[code] - values[previous]);
+                }
+                previous = code;
+                symbol = "X".equals(symbol) ? "O" : "X";
+            }
+        }
+
+        // X maximises the value, O minimises it; ties are broken at random
+        private int bestMove(Field field, String symbol, int count) {
+            float sign = "X".equals(symbol) ? 1 : -1;
+            int best = -1;
+            float bestValue = Float.NEGATIVE_INFINITY;
+            int ties = 0;
+            for (int i = 0; i < count; i++) {
+                Field child = field.nextMove(moves[i], symbol).getRight();
+                float value = sign * (child.getState().isTerminal() ? reward(child.getState()) : values[child.getPositionCode()]);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = moves[i];
+                    ties = 1;
+                } else if (value == bestValue && random.nextInt(++ties) == 0) {
+                    best = moves[i];
+                }
+            }
+            return best;
+        }
+    }
+}
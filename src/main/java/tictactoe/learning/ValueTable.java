@@ -0,0 +1,80 @@
+package tictactoe.learning;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Learned value of every 3x3 position, indexed by {@link Field#getPositionCode()}: the expected result
+ * of the game from X's point of view, from -1 (O wins) to 1 (X wins).
+ * Files keep each value as a 16-bit fixed-point number, half the size of the floats.
+ */
+public class ValueTable {
+    static final String RESOURCE = "/tictactoe/learning/classic.values";
+    static final int POSITIONS = 19683;
+    private static final float SCALE = Short.MAX_VALUE;
+
+    final float[] values;
+
+    ValueTable(float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Reads the table trained at build time on the first call.
+     */
+    public static ValueTable classic() {
+        return Classic.TABLE;
+    }
+
+    /**
+     * @return value of the position from X's point of view or 0 when it isn't a 3x3 position
+     */
+    public float get(Field field) {
+        if (field.getBoardSize() != BoardSize.CLASSIC) {
+            return 0;
+        }
+        return values[field.getPositionCode()];
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        for (float value : values) {
+            data.writeShort(Math.round(Math.max(-1, Math.min(1, value)) * SCALE));
+        }
+        data.flush();
+    }
+
+    public static ValueTable readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        float[] values = new float[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            values[i] = data.readShort() / SCALE;
+        }
+        return new ValueTable(values);
+    }
+
+    private static final class Classic {
+        static final ValueTable TABLE = read(RESOURCE);
+    }
+
+    private static ValueTable read(String resource) {
+        try (InputStream in = ValueTable.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + resource + ", run ./gradlew train");
+            }
+            return readFrom(in);
+        } catch (EOFException e) {
+            throw new IllegalStateException(resource + " is truncated, run ./gradlew train", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
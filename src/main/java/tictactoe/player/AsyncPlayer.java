@@ -0,0 +1,30 @@
+package tictactoe.player;
+
+import tictactoe.board.Field;
+import tictactoe.util.Either;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Player whose moves arrive later, so nobody waits for them: the stage completes once the move is made.
+ */
+public interface AsyncPlayer {
+    CompletionStage<Either<String, Field>> nextMoveAsync(Field field);
+    String moveMessage();
+
+    /**
+     * @return true when the move comes from a person, so pending output should be shown first
+     */
+    default boolean isHuman() {
+        return false;
+    }
+
+    /**
+     * Runs the moves of a synchronous player on {@code executor}; a human or a long search keeps one
+     * of its threads busy while it thinks.
+     */
+    static AsyncPlayer of(Player player, Executor executor) {
+        return new SyncPlayerAdapter(player, executor);
+    }
+}
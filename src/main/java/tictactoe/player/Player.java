@@ -6,4 +6,23 @@ import tictactoe.util.Either;
 public interface Player {
     Either<String, Field> nextMove(Field field);
     String moveMessage();
+
+    /**
+     * @return true when {@link #nextMove(Field)} waits for a person, so pending output should be shown first
+     */
+    default boolean isHuman() {
+        return false;
+    }
+
+    /**
+     * Called before a human opponent moves from {@code field}; a bot may think ahead until its next move.
+     */
+    default void ponder(Field field) {
+    }
+
+    /**
+     * Called when thinking ahead is no longer useful, e.g. when the game is over.
+     */
+    default void stopPondering() {
+    }
 }
@@ -3,17 +3,44 @@ package tictactoe.player;
 import tictactoe.player.impl.EasyBotPlayer;
 import tictactoe.player.impl.HardBotPlayer;
 import tictactoe.player.impl.HumanPlayer;
+import tictactoe.player.impl.LearnedBotPlayer;
+import tictactoe.player.impl.MctsBotPlayer;
 import tictactoe.player.impl.MediumBotPlayer;
 
+import java.util.Scanner;
+
 public class PlayerFactory {
     public static Player create(String playerType, String symbol) {
+        return create(playerType, symbol, null);
+    }
+
+    /**
+     * @param input where a human player reads moves from, {@code System.in} when it's null
+     */
+    public static Player create(String playerType, String symbol, Scanner input) {
         switch (playerType) {
-            case "user": return new HumanPlayer(symbol);
+            case "user": return input != null ? new HumanPlayer(symbol, input) : new HumanPlayer(symbol);
             case "easy": return new EasyBotPlayer(symbol);
             case "medium": return new MediumBotPlayer(symbol);
             case "hard": return new HardBotPlayer(symbol);
+            case "ponder": return new HardBotPlayer(symbol, true);
+            case "mcts": return new MctsBotPlayer(symbol);
+            case "learned": return new LearnedBotPlayer(symbol);
             //TODO remove exception
             default: throw new RuntimeException();
         }
     }
+
+    /**
+     * Like {@link #create(String, String)}, but bots that search on several threads get only one, for
+     * callers that already run a game on every core.
+     */
+    public static Player createSingleThreaded(String playerType, String symbol) {
+        switch (playerType) {
+            case "hard":
+            case "ponder": return new HardBotPlayer(symbol, HardBotPlayer.LARGE_BOARD_DEPTH, 1);
+            case "mcts": return new MctsBotPlayer(symbol, 1, MctsBotPlayer.PLAYOUTS, MctsBotPlayer.TIME_BUDGET_MILLIS);
+            default: return create(playerType, symbol);
+        }
+    }
 }
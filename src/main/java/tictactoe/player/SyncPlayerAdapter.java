@@ -0,0 +1,36 @@
+package tictactoe.player;
+
+import tictactoe.board.Field;
+import tictactoe.util.Either;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link AsyncPlayer} view of a {@link Player}, see {@link AsyncPlayer#of(Player, Executor)}.
+ */
+final class SyncPlayerAdapter implements AsyncPlayer {
+    private final Player player;
+    private final Executor executor;
+
+    SyncPlayerAdapter(Player player, Executor executor) {
+        this.player = player;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<Either<String, Field>> nextMoveAsync(Field field) {
+        return CompletableFuture.supplyAsync(() -> player.nextMove(field), executor);
+    }
+
+    @Override
+    public String moveMessage() {
+        return player.moveMessage();
+    }
+
+    @Override
+    public boolean isHuman() {
+        return player.isHuman();
+    }
+}
@@ -0,0 +1,50 @@
+package tictactoe.player.impl;
+
+import tictactoe.board.Field;
+import tictactoe.player.AsyncPlayer;
+import tictactoe.util.Either;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Human whose coordinates are handed in by whatever receives them, e.g. a network handler, instead of
+ * being read by a waiting thread. A game waiting for this player holds no thread at all.
+ */
+public class AsyncHumanPlayer implements AsyncPlayer {
+
+    private final String symbol;
+    private final AtomicReference<CompletableFuture<String>> pending = new AtomicReference<>();
+
+    public AsyncHumanPlayer(String symbol) {
+        this.symbol = symbol;
+    }
+
+    @Override
+    public CompletionStage<Either<String, Field>> nextMoveAsync(Field field) {
+        CompletableFuture<String> coordinates = new CompletableFuture<>();
+        pending.set(coordinates);
+        return coordinates.thenApply(line -> field.nextMove(line, symbol));
+    }
+
+    /**
+     * Makes the move the game waits for; the game continues on the calling thread.
+     *
+     * @return false when the game isn't waiting for this player
+     */
+    public boolean submit(String coordinates) {
+        CompletableFuture<String> awaited = pending.getAndSet(null);
+        return awaited != null && awaited.complete(coordinates);
+    }
+
+    @Override
+    public String moveMessage() {
+        return "Enter the coordinates: ";
+    }
+
+    @Override
+    public boolean isHuman() {
+        return true;
+    }
+}
@@ -1,17 +1,16 @@
 package tictactoe.player.impl;
 
-import tictactoe.board.Coordinate;
 import tictactoe.board.Field;
 import tictactoe.player.Player;
 import tictactoe.util.Either;
 
-import java.util.List;
 import java.util.Random;
 
 public class EasyBotPlayer implements Player {
 
     private final Random random;
     private final String symbol;
+    private int[] moves = new int[0];
 
     public EasyBotPlayer(String symbol) {
         this.symbol = symbol;
@@ -20,9 +19,11 @@ public class EasyBotPlayer implements Player {
 
     @Override
     public Either<String, Field> nextMove(Field field) {
-        List<Coordinate> possibleMoves = field.getPossibleMoves();
-        Coordinate nextCoordinates = possibleMoves.get(random.nextInt(possibleMoves.size()));
-        Either<String, Field> nextMove = field.nextMove(nextCoordinates.getCoordinates(), symbol);
+        if (moves.length < field.getFreeCellCount()) {
+            moves = new int[field.getBoardSize().getCells()];
+        }
+        int count = field.fillPossibleMoves(moves);
+        Either<String, Field> nextMove = field.nextMove(moves[random.nextInt(count)], symbol);
         if (nextMove.isRight()) {
             return nextMove;
         }
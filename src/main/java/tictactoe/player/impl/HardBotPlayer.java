@@ -1,21 +1,155 @@
 package tictactoe.player.impl;
 
+import tictactoe.board.BoardSize;
 import tictactoe.board.Field;
 import tictactoe.player.Player;
-import tictactoe.player.PlayerFactory;
+import tictactoe.search.DepthLimitedSearch;
+import tictactoe.search.IterativeDeepeningSearch;
+import tictactoe.search.LazySmpSearch;
+import tictactoe.search.NegamaxSearch;
+import tictactoe.search.Ponderer;
+import tictactoe.search.Search;
+import tictactoe.search.SearchResult;
+import tictactoe.search.SearchStatistics;
+import tictactoe.search.SolvedBook;
+import tictactoe.search.TranspositionTable;
 import tictactoe.util.Either;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays the classic board from the {@link SolvedBook} and searches bigger boards a few plies ahead,
+ * on several threads when it's given more than one. With a time budget the search deepens iteratively
+ * and every move is made within the budget. All hard bots of the process share one transposition table,
+ * so simultaneous games reuse each other's searches; it's only allocated once a bot has to search, so
+ * 3x3 games answered from the book never pay for it. A pondering bot also answers the likely moves of a
+ * human opponent while the human thinks, so on bigger boards its reply is often ready at once.
+ */
 public class HardBotPlayer implements Player {
+    public static final int LARGE_BOARD_DEPTH = 3;
+
+    private static final SolvedBook BOOK = SolvedBook.classic();
 
-    // todo implement minimax algorithm
-    private final Player delegate;
+    private final String symbol;
+    private final int largeBoardDepth;
+    private final int threads;
+    private final long timeBudgetMillis;
+    private final boolean pondering;
+    private final SearchStatistics statistics = new SearchStatistics();
+    private NegamaxSearch classicSearch;
+    private Search largeBoardSearch;
+    private Ponderer ponderer;
+    private SearchResult lastResult;
 
     public HardBotPlayer(String symbol) {
-        delegate = PlayerFactory.create("medium", symbol);
+        this(symbol, LARGE_BOARD_DEPTH);
+    }
+
+    /**
+     * @param pondering whether to think during a human opponent's turns
+     */
+    public HardBotPlayer(String symbol, boolean pondering) {
+        this(symbol, LARGE_BOARD_DEPTH, Runtime.getRuntime().availableProcessors(), 0, pondering);
+    }
+
+    /**
+     * @param largeBoardDepth plies to search on boards other than 3x3
+     */
+    public HardBotPlayer(String symbol, int largeBoardDepth) {
+        this(symbol, largeBoardDepth, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads search threads on boards other than 3x3
+     */
+    public HardBotPlayer(String symbol, int largeBoardDepth, int threads) {
+        this(symbol, largeBoardDepth, threads, 0);
+    }
+
+    /**
+     * @param largeBoardDepth  the most plies iterative deepening goes on boards other than 3x3
+     * @param timeBudgetMillis time allowed per move, 0 to always search to the full depth
+     */
+    public HardBotPlayer(String symbol, int largeBoardDepth, int threads, long timeBudgetMillis) {
+        this(symbol, largeBoardDepth, threads, timeBudgetMillis, false);
     }
+
+    public HardBotPlayer(String symbol, int largeBoardDepth, int threads, long timeBudgetMillis, boolean pondering) {
+        this.symbol = symbol;
+        this.largeBoardDepth = largeBoardDepth;
+        this.threads = threads;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.pondering = pondering;
+    }
+
     @Override
     public Either<String, Field> nextMove(Field field) {
-        return delegate.nextMove(field);
+        SearchResult knownResult = BOOK.lookup(field, symbol);
+        if (knownResult == null && ponderer != null) {
+            knownResult = ponderer.answer(field);
+        }
+        lastResult = knownResult != null ? knownResult : searchFor(field).search(field, symbol);
+        statistics.record(lastResult);
+        if (lastResult.getMove() < 0) {
+            return Either.left("Something went wrong with bot player");
+        }
+        return field.nextMove(lastResult.getMove(), symbol);
+    }
+
+    /**
+     * The book answers 3x3 at once, so only bigger boards are pondered.
+     */
+    @Override
+    public void ponder(Field field) {
+        if (!pondering || field.getBoardSize() == BoardSize.CLASSIC || field.getState().isTerminal()) {
+            return;
+        }
+        if (ponderer == null) {
+            ponderer = new Ponderer(TranspositionTable.shared(), largeBoardDepth);
+        }
+        ponderer.start(field, "X".equals(symbol) ? "O" : "X", symbol);
+    }
+
+    @Override
+    public void stopPondering() {
+        if (ponderer != null) {
+            ponderer.stop();
+        }
+    }
+
+    private Search searchFor(Field field) {
+        if (field.getBoardSize() == BoardSize.CLASSIC) {
+            if (classicSearch == null) {
+                classicSearch = new NegamaxSearch(TranspositionTable.shared(), BoardSize.CLASSIC.getCells());
+            }
+            return classicSearch;
+        }
+        if (largeBoardSearch == null) {
+            largeBoardSearch = createLargeBoardSearch();
+        }
+        return largeBoardSearch;
+    }
+
+    private Search createLargeBoardSearch() {
+        TranspositionTable table = TranspositionTable.shared();
+        if (timeBudgetMillis <= 0) {
+            return threads > 1 ? new LazySmpSearch(table, largeBoardDepth, threads) : new NegamaxSearch(table, largeBoardDepth);
+        }
+        DepthLimitedSearch iteration = threads > 1
+                ? new LazySmpSearch(table, largeBoardDepth, threads)
+                : new NegamaxSearch(table, largeBoardDepth);
+        return new IterativeDeepeningSearch(iteration, largeBoardDepth, TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis));
+    }
+
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return result of the latest search or null before the first move
+     */
+    public SearchResult getLastResult() {
+        return lastResult;
     }
 
     @Override
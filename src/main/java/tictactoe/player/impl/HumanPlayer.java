@@ -12,8 +12,15 @@ public class HumanPlayer implements Player {
     private final Scanner scanner;
 
     public HumanPlayer(String symbol) {
+        this(symbol, new Scanner(System.in));
+    }
+
+    /**
+     * @param scanner the session's input, shared with whatever else reads from it
+     */
+    public HumanPlayer(String symbol, Scanner scanner) {
         this.symbol = symbol;
-        scanner = new Scanner(System.in);
+        this.scanner = scanner;
     }
 
     @Override
@@ -26,4 +33,9 @@ public class HumanPlayer implements Player {
     public String moveMessage() {
         return "Enter the coordinates: ";
     }
+
+    @Override
+    public boolean isHuman() {
+        return true;
+    }
 }
@@ -0,0 +1,78 @@
+package tictactoe.player.impl;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.learning.ValueTable;
+import tictactoe.player.Player;
+import tictactoe.util.Either;
+
+import java.util.Random;
+
+/**
+ * Plays the move leading to the best position of a {@link ValueTable} learned by self-play, a single
+ * table lookup per possible move. Its strength is tuned by the probability of a random move instead;
+ * boards other than 3x3 aren't learned, there every move is random.
+ */
+public class LearnedBotPlayer implements Player {
+
+    private final String symbol;
+    private final ValueTable table;
+    private final double randomness;
+    private final Random random;
+    private int[] moves = new int[0];
+
+    public LearnedBotPlayer(String symbol) {
+        this(symbol, ValueTable.classic(), 0, new Random());
+    }
+
+    /**
+     * @param randomness probability of a random move, 0 for the strongest play
+     */
+    public LearnedBotPlayer(String symbol, ValueTable table, double randomness, Random random) {
+        this.symbol = symbol;
+        this.table = table;
+        this.randomness = randomness;
+        this.random = random;
+    }
+
+    @Override
+    public Either<String, Field> nextMove(Field field) {
+        if (moves.length < field.getFreeCellCount()) {
+            moves = new int[field.getBoardSize().getCells()];
+        }
+        int count = field.fillPossibleMoves(moves);
+        if (count == 0) {
+            return Either.left("Something went wrong with bot player");
+        }
+        if (field.getBoardSize() != BoardSize.CLASSIC || random.nextDouble() < randomness) {
+            return field.nextMove(moves[random.nextInt(count)], symbol);
+        }
+
+        float sign = "X".equals(symbol) ? 1 : -1;
+        Field best = null;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            Field child = field.nextMove(moves[i], symbol).getRight();
+            float value = sign * value(child);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return Either.right(best);
+    }
+
+    private float value(Field field) {
+        switch (field.getState()) {
+            case X_WINS: return 1;
+            case O_WINS: return -1;
+            case DRAW: return 0;
+            default: return table.get(field);
+        }
+    }
+
+    @Override
+    public String moveMessage() {
+        return "Making move level \"learned\"";
+    }
+}
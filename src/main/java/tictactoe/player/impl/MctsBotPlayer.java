@@ -0,0 +1,66 @@
+package tictactoe.player.impl;
+
+import tictactoe.board.Field;
+import tictactoe.player.Player;
+import tictactoe.search.MonteCarloTreeSearch;
+import tictactoe.search.SearchPool;
+import tictactoe.search.SearchResult;
+import tictactoe.search.SearchStatistics;
+import tictactoe.util.Either;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks moves with Monte Carlo tree search, running random playouts on every available core of the
+ * shared {@link SearchPool}.
+ */
+public class MctsBotPlayer implements Player {
+    public static final int PLAYOUTS = 50_000;
+    public static final long TIME_BUDGET_MILLIS = 1_000;
+
+    private final String symbol;
+    private final MonteCarloTreeSearch search;
+    private final SearchStatistics statistics = new SearchStatistics();
+    private SearchResult lastResult;
+
+    public MctsBotPlayer(String symbol) {
+        this(symbol, Runtime.getRuntime().availableProcessors(), PLAYOUTS, TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * @param threads  playout workers, taken from the shared pool for each move
+     * @param playouts playouts per move, split between the workers
+     */
+    public MctsBotPlayer(String symbol, int threads, int playouts, long timeBudgetMillis) {
+        this.symbol = symbol;
+        this.search = new MonteCarloTreeSearch(SearchPool.shared(), threads, playouts,
+                TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis), new SplittableRandom());
+    }
+
+    @Override
+    public Either<String, Field> nextMove(Field field) {
+        lastResult = search.search(field, symbol);
+        statistics.record(lastResult);
+        if (lastResult.getMove() < 0) {
+            return Either.left("Something went wrong with bot player");
+        }
+        return field.nextMove(lastResult.getMove(), symbol);
+    }
+
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return result of the latest search or null before the first move
+     */
+    public SearchResult getLastResult() {
+        return lastResult;
+    }
+
+    @Override
+    public String moveMessage() {
+        return "Making move level \"mcts\"";
+    }
+}
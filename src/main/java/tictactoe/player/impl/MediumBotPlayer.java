@@ -1,17 +1,16 @@
 package tictactoe.player.impl;
 
-import tictactoe.board.Coordinate;
 import tictactoe.board.Field;
 import tictactoe.player.Player;
 import tictactoe.util.Either;
 
-import java.util.List;
 import java.util.Random;
 
 public class MediumBotPlayer implements Player {
 
     private final Random random;
     private final String symbol;
+    private int[] moves = new int[0];
 
     public MediumBotPlayer(String symbol) {
         this.symbol = symbol;
@@ -20,44 +19,25 @@ public class MediumBotPlayer implements Player {
 
     @Override
     public Either<String, Field> nextMove(Field field) {
-        List<Coordinate> possibleMoves = field.getPossibleMoves();
-        Either<String, Field> nextMove1 = canIWinInNextMove(field);
-        if (nextMove1.isRight()) return nextMove1;
+        if (moves.length < field.getBoardSize().getCells()) {
+            moves = new int[field.getBoardSize().getCells()];
+        }
 
-        Either<String, Field> nextMove2 = canOpponentWinInNextMove(field);
-        if (nextMove2.isRight()) return nextMove2;
+        if (field.fillWinningMoves(moves, symbol) > 0) {
+            return field.nextMove(moves[0], symbol);
+        }
+        if (field.fillWinningMoves(moves, otherSymbol()) > 0) {
+            return field.nextMove(moves[0], symbol);
+        }
 
-        Coordinate nextCoordinates = possibleMoves.get(random.nextInt(possibleMoves.size()));
-        Either<String, Field> nextMove = field.nextMove(nextCoordinates.getCoordinates(), symbol);
+        int count = field.fillPossibleMoves(moves);
+        Either<String, Field> nextMove = field.nextMove(moves[random.nextInt(count)], symbol);
         if (nextMove.isRight()) {
             return nextMove;
         }
         return Either.left("Something went wrong with bot player");
     }
 
-    private Either<String, Field> canOpponentWinInNextMove(Field field) {
-        List<Coordinate> possibleMoves = field.getPossibleMoves();
-        for (Coordinate possibleMove : possibleMoves) {
-            String opponentSymbol = otherSymbol();
-            Either<String, Field> nextMove = field.nextMove(possibleMove.getCoordinates(), opponentSymbol);
-            if (nextMove.getRight().getWinner().equals(opponentSymbol)) {
-                return field.nextMove(possibleMove.getCoordinates(), symbol);
-            }
-        }
-        return Either.left("");
-    }
-
-    private Either<String, Field> canIWinInNextMove(Field field) {
-        List<Coordinate> possibleMoves = field.getPossibleMoves();
-        for (Coordinate possibleMove : possibleMoves) {
-            Either<String, Field> nextMove = field.nextMove(possibleMove.getCoordinates(), symbol);
-            if (nextMove.getRight().getWinner().equals(symbol)) {
-                return nextMove;
-            }
-        }
-        return Either.left("");
-    }
-
     //TODO coupling on symbol value
     private String otherSymbol(){
         if (symbol.equals("X")) return "O";
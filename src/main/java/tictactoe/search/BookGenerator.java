@@ -0,0 +1,94 @@
+package tictactoe.search;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.CanonicalField;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Solves every reachable 3x3 position and writes the {@link SolvedBook} resource.
+ * Run with {@code ./gradlew generateBook}.
+ */
+public class BookGenerator {
+
+    public static void main(String[] args) throws IOException {
+        Path target = Paths.get(args[0]);
+        long start = System.nanoTime();
+        short[] book = solve();
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(target))) {
+            for (short entry : book) {
+                out.writeShort(entry);
+            }
+        }
+
+        int solved = 0;
+        for (short entry : book) {
+            solved += SolvedBook.value(entry) != 0 ? 1 : 0;
+        }
+        System.out.printf("Solved %d canonical positions in %.1f ms, wrote %s%n",
+                solved, (System.nanoTime() - start) / 1_000_000.0, target);
+    }
+
+    static short[] solve() {
+        short[] book = new short[SolvedBook.POSITIONS];
+        solve(Field.empty(BoardSize.CLASSIC).canonicalize().getField(), book);
+        return book;
+    }
+
+    // fills the entry of a canonical, unfinished position and of everything reachable from it
+    private static short solve(Field field, short[] book) {
+        int code = field.getPositionCode();
+        if (book[code] != 0) {
+            return book[code];
+        }
+
+        String symbol = SolvedBook.toMove(field);
+        int[] moves = new int[field.getFreeCellCount()];
+        int count = field.fillPossibleMoves(moves);
+        int bestScore = Integer.MIN_VALUE;
+        int bestMoves = 0;
+        int bestValue = 0;
+        int bestDistance = 0;
+
+        for (int i = 0; i < count; i++) {
+            Field child = field.nextMove(moves[i], symbol).getRight();
+            int value;
+            int distance;
+            if (child.getState() != State.GAME_NOT_FINISHED) {
+                value = child.getState() == State.DRAW ? SolvedBook.DRAW : SolvedBook.WIN;
+                distance = 1;
+            } else {
+                CanonicalField canonical = child.canonicalize();
+                short reply = solve(canonical.getField(), book);
+                value = opposite(SolvedBook.value(reply));
+                distance = SolvedBook.distance(reply) + 1;
+            }
+
+            int score = value == SolvedBook.WIN ? 100 - distance : value == SolvedBook.LOSS ? distance - 100 : 0;
+            if (score > bestScore) {
+                bestScore = score;
+                bestMoves = 0;
+                bestValue = value;
+                bestDistance = distance;
+            }
+            if (score == bestScore) {
+                bestMoves |= 1 << moves[i];
+            }
+        }
+
+        book[code] = SolvedBook.pack(bestMoves, bestValue, bestDistance);
+        return book[code];
+    }
+
+    private static int opposite(int value) {
+        return value == SolvedBook.WIN ? SolvedBook.LOSS : value == SolvedBook.LOSS ? SolvedBook.WIN : SolvedBook.DRAW;
+    }
+}
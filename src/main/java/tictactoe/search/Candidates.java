@@ -0,0 +1,46 @@
+package tictactoe.search;
+
+import tictactoe.board.Field;
+
+/**
+ * Moves worth looking at. Small boards use every free cell in search order, boards bigger than 4x4
+ * only the free cells next to a symbol, as a move far from the others almost never matters there.
+ */
+final class Candidates {
+    private static final int FULL_WIDTH_CELLS = 16;
+
+    private Candidates() {
+    }
+
+    /**
+     * @return number of cells written to {@code moves}, which needs room for every cell of the board
+     */
+    static int fill(Field field, int[] moves) {
+        int count = field.fillOrderedMoves(moves);
+        int cells = field.getBoardSize().getCells();
+        if (cells <= FULL_WIDTH_CELLS || count == cells) {
+            return count;
+        }
+
+        int width = field.getBoardSize().getWidth();
+        int height = field.getBoardSize().getHeight();
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (hasNeighbour(field, moves[i] % width, moves[i] / width, width, height)) {
+                moves[kept++] = moves[i];
+            }
+        }
+        return kept;
+    }
+
+    private static boolean hasNeighbour(Field field, int column, int row, int width, int height) {
+        for (int y = Math.max(0, row - 1); y <= Math.min(height - 1, row + 1); y++) {
+            for (int x = Math.max(0, column - 1); x <= Math.min(width - 1, column + 1); x++) {
+                if (!field.isFree(y * width + x)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package tictactoe.search;
+
+/**
+ * Point in {@link System#nanoTime()} time when a search has to give up.
+ */
+public final class Deadline {
+    public static final Deadline NONE = new Deadline(0, false);
+
+    private final long at;
+    private final boolean limited;
+
+    private Deadline(long at, boolean limited) {
+        this.at = at;
+        this.limited = limited;
+    }
+
+    public static Deadline after(long nanos) {
+        return new Deadline(System.nanoTime() + nanos, true);
+    }
+
+    public boolean hasPassed() {
+        return limited && System.nanoTime() - at > 0;
+    }
+}
@@ -0,0 +1,19 @@
+package tictactoe.search;
+
+import tictactoe.board.Field;
+
+/**
+ * Search to a fixed depth that can be cut short, one iteration of {@link IterativeDeepeningSearch}.
+ */
+public interface DepthLimitedSearch {
+
+    /**
+     * @return result of the full-depth search or null when the deadline passed first
+     */
+    SearchResult search(Field field, String symbol, int depth, Deadline deadline);
+
+    /**
+     * @return nodes visited by the latest search, finished or not
+     */
+    long getNodes();
+}
@@ -0,0 +1,56 @@
+package tictactoe.search;
+
+import tictactoe.board.Field;
+
+/**
+ * Searches one ply deeper at a time until the time budget runs out, the game is solved or the depth
+ * limit is reached, and answers with the move of the deepest finished iteration. Each iteration starts
+ * from the previous best moves stored in the transposition table. Before the first iteration finishes,
+ * the best-so-far move is the first candidate in search order.
+ */
+public class IterativeDeepeningSearch implements Search {
+    private final DepthLimitedSearch search;
+    private final int maxDepth;
+    private final long budgetNanos;
+
+    /**
+     * @param budgetNanos time allowed per move, the search returns within it plus a few microseconds
+     */
+    public IterativeDeepeningSearch(DepthLimitedSearch search, int maxDepth, long budgetNanos) {
+        this.search = search;
+        this.maxDepth = maxDepth;
+        this.budgetNanos = budgetNanos;
+    }
+
+    @Override
+    public SearchResult search(Field field, String symbol) {
+        long start = System.nanoTime();
+        Deadline deadline = Deadline.after(budgetNanos);
+        if (field.getState().isTerminal() || field.getFreeCellCount() == 0) {
+            return new SearchResult(-1, 0, 0, 0, System.nanoTime() - start);
+        }
+
+        int[] candidates = new int[field.getBoardSize().getCells()];
+        Candidates.fill(field, candidates);
+        int move = candidates[0];
+        int score = 0;
+        int finishedDepth = 0;
+        long nodes = 0;
+
+        int lastDepth = Math.min(maxDepth, field.getFreeCellCount());
+        for (int depth = 1; depth <= lastDepth; depth++) {
+            SearchResult result = search.search(field, symbol, depth, deadline);
+            nodes += search.getNodes();
+            if (result == null) {
+                break;
+            }
+            move = result.getMove();
+            score = result.getScore();
+            finishedDepth = depth;
+            if (Math.abs(score) > NegamaxSearch.WIN_SCORE - NegamaxSearch.MAX_PLY || deadline.hasPassed()) {
+                break;
+            }
+        }
+        return new SearchResult(move, score, finishedDepth, nodes, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,80 @@
+package tictactoe.search;
+
+import tictactoe.board.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lazy SMP: the calling thread and {@code threads - 1} helpers run the same negamax search over one shared
+ * transposition table. Helpers start from different root moves, so they fill the table with results the
+ * main search picks up instead of searching those subtrees itself. Only the main search's move is used,
+ * helpers stop as soon as it's done and the reported nodes are counted over all threads.
+ * Helpers run on the {@link SearchPool}, so searches hold no threads of their own.
+ */
+public class LazySmpSearch implements Search, DepthLimitedSearch {
+    private static final AtomicBoolean NEVER = new AtomicBoolean();
+
+    private final int maxDepth;
+    private final NegamaxSearch main;
+    private final NegamaxSearch[] helpers;
+    private final ForkJoinPool pool;
+    private long nodes;
+
+    /**
+     * @param table shared by all threads, it's lock-free
+     */
+    public LazySmpSearch(TranspositionTable table, int maxDepth, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Search needs at least one thread");
+        }
+        this.maxDepth = maxDepth;
+        main = new NegamaxSearch(table, maxDepth);
+        helpers = new NegamaxSearch[threads - 1];
+        for (int i = 0; i < helpers.length; i++) {
+            helpers[i] = new NegamaxSearch(table, maxDepth);
+        }
+        pool = threads > 1 ? SearchPool.shared() : null;
+    }
+
+    public int getThreads() {
+        return helpers.length + 1;
+    }
+
+    @Override
+    public SearchResult search(Field field, String symbol) {
+        return search(field, symbol, maxDepth, Deadline.NONE);
+    }
+
+    @Override
+    public SearchResult search(Field field, String symbol, int depth, Deadline deadline) {
+        long start = System.nanoTime();
+        AtomicBoolean stop = new AtomicBoolean();
+        List<ForkJoinTask<SearchResult>> running = new ArrayList<>(helpers.length);
+        for (int i = 0; i < helpers.length; i++) {
+            NegamaxSearch helper = helpers[i];
+            int rootOffset = i + 1;
+            running.add(pool.submit(() -> helper.search(field, symbol, depth, rootOffset, stop, deadline)));
+        }
+
+        SearchResult result = main.search(field, symbol, depth, 0, NEVER, deadline);
+        stop.set(true);
+        nodes = main.getNodes();
+        for (int i = 0; i < running.size(); i++) {
+            running.get(i).join();
+            nodes += helpers[i].getNodes();
+        }
+        if (result == null) {
+            return null;
+        }
+        return new SearchResult(result.getMove(), result.getScore(), result.getDepth(), nodes, System.nanoTime() - start);
+    }
+
+    @Override
+    public long getNodes() {
+        return nodes;
+    }
+}
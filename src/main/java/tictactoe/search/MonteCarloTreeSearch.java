@@ -0,0 +1,234 @@
+package tictactoe.search;
+
+import tictactoe.board.Field;
+import tictactoe.board.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * UCT Monte Carlo tree search with root parallelism. Every worker of the pool grows its own tree from
+ * the same position with its own random generator and adds the visits and results of the root moves
+ * to shared lock-free counters; the most visited root move is played.
+ * The score of a result is the expected outcome in thousandths, from -1000 (loss) to 1000 (win).
+ */
+public class MonteCarloTreeSearch implements Search {
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int CLOCK_MASK = 63;
+
+    private final ForkJoinPool pool;
+    private final int workers;
+    private final int playouts;
+    private final long timeBudgetNanos;
+    private final SplittableRandom random;
+
+    /**
+     * @param playouts        playouts per search, shared between the workers of the pool
+     * @param timeBudgetNanos the search stops after this long even when playouts are left
+     */
+    public MonteCarloTreeSearch(ForkJoinPool pool, int playouts, long timeBudgetNanos, SplittableRandom random) {
+        this(pool, pool.getParallelism(), playouts, timeBudgetNanos, random);
+    }
+
+    /**
+     * @param workers trees grown at once on the pool
+     */
+    public MonteCarloTreeSearch(ForkJoinPool pool, int workers, int playouts, long timeBudgetNanos,
+                                SplittableRandom random) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Search needs at least one worker");
+        }
+        this.pool = pool;
+        this.workers = workers;
+        this.playouts = playouts;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.random = random;
+    }
+
+    @Override
+    public SearchResult search(Field field, String symbol) {
+        long start = System.nanoTime();
+        if (field.getState().isTerminal() || field.getFreeCellCount() == 0) {
+            return new SearchResult(-1, 0, 0, 0, System.nanoTime() - start);
+        }
+
+        int cells = field.getBoardSize().getCells();
+        AtomicLongArray visits = new AtomicLongArray(cells);
+        AtomicLongArray points = new AtomicLongArray(cells);
+        List<Worker> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            int share = playouts / workers + (i < playouts % workers ? 1 : 0);
+            tasks.add(new Worker(field, symbol, share, start + timeBudgetNanos, random.split(), visits, points));
+        }
+        tasks.forEach(pool::execute);
+
+        long total = 0;
+        int depth = 0;
+        for (Worker task : tasks) {
+            task.join();
+            total += task.playouts;
+            depth = Math.max(depth, task.depth);
+        }
+
+        int move = -1;
+        for (int cell = 0; cell < cells; cell++) {
+            if (visits.get(cell) > 0 && (move < 0 || visits.get(cell) > visits.get(move))) {
+                move = cell;
+            }
+        }
+        if (move < 0) {
+            int[] candidates = new int[cells];
+            Candidates.fill(field, candidates);
+            return new SearchResult(candidates[0], 0, 0, 0, System.nanoTime() - start);
+        }
+        int score = (int) Math.round(1000.0 * points.get(move) / visits.get(move)) - 1000;
+        return new SearchResult(move, score, depth, total, System.nanoTime() - start);
+    }
+
+    private static String other(String symbol) {
+        return "X".equals(symbol) ? "O" : "X";
+    }
+
+    /**
+     * One search tree, only touched by the thread running the worker.
+     */
+    private static final class Worker extends RecursiveAction {
+        private final Node root;
+        private final int budget;
+        private final long deadline;
+        private final SplittableRandom random;
+        private final AtomicLongArray visits;
+        private final AtomicLongArray points;
+        private final int[] moves;
+        private int playouts;
+        private int depth;
+
+        Worker(Field field, String symbol, int budget, long deadline, SplittableRandom random,
+               AtomicLongArray visits, AtomicLongArray points) {
+            this.moves = new int[field.getBoardSize().getCells()];
+            this.root = new Node(field, symbol, -1, null, moves);
+            this.budget = budget;
+            this.deadline = deadline;
+            this.random = random;
+            this.visits = visits;
+            this.points = points;
+        }
+
+        @Override
+        protected void compute() {
+            for (playouts = 0; playouts < budget; playouts++) {
+                if ((playouts & CLOCK_MASK) == CLOCK_MASK && System.nanoTime() - deadline > 0) {
+                    break;
+                }
+                playOnce();
+            }
+        }
+
+        private void playOnce() {
+            Node node = root;
+            int level = 0;
+            while (node.untriedCount == 0 && node.childCount > 0) {
+                node = node.select();
+                level++;
+            }
+            if (node.untriedCount > 0) {
+                node = node.expand(random.nextInt(node.untriedCount), moves);
+                level++;
+            }
+            depth = Math.max(depth, level);
+
+            Field finished = playout(node.field, node.mover);
+            for (; node.parent != null; node = node.parent) {
+                int reward = reward(finished.getState(), other(node.mover));
+                node.visits++;
+                node.points += reward;
+                if (node.parent == root) {
+                    visits.incrementAndGet(node.move);
+                    points.addAndGet(node.move, reward);
+                }
+            }
+            root.visits++;
+        }
+
+        // returns the finished game rather than its State, the name means Future.State inside a ForkJoinTask
+        private Field playout(Field field, String mover) {
+            if (field.getState().isTerminal()) {
+                return field;
+            }
+            int count = field.fillPossibleMoves(moves);
+            while (true) {
+                int index = random.nextInt(count);
+                int cell = moves[index];
+                moves[index] = moves[--count];
+                field = field.nextMove(cell, mover).getRight();
+                if (field.getState().isTerminal()) {
+                    return field;
+                }
+                mover = other(mover);
+            }
+        }
+    }
+
+    // 2 for a win of the symbol, 1 for a draw
+    private static int reward(State result, String symbol) {
+        if (result == State.DRAW) {
+            return 1;
+        }
+        return (result == State.X_WINS) == "X".equals(symbol) ? 2 : 0;
+    }
+
+    private static final class Node {
+        final Field field;
+        final String mover;
+        final int move;
+        final Node parent;
+        final int[] untried;
+        int untriedCount;
+        Node[] children;
+        int childCount;
+        int visits;
+        long points;
+
+        Node(Field field, String mover, int move, Node parent, int[] buffer) {
+            this.field = field;
+            this.mover = mover;
+            this.move = move;
+            this.parent = parent;
+            if (field.getState().isTerminal()) {
+                untried = new int[0];
+            } else {
+                untriedCount = Candidates.fill(field, buffer);
+                untried = new int[untriedCount];
+                System.arraycopy(buffer, 0, untried, 0, untriedCount);
+            }
+            children = new Node[untriedCount];
+        }
+
+        Node expand(int index, int[] buffer) {
+            int cell = untried[index];
+            untried[index] = untried[--untriedCount];
+            Node child = new Node(field.nextMove(cell, mover).getRight(), other(mover), cell, this, buffer);
+            children[childCount++] = child;
+            return child;
+        }
+
+        Node select() {
+            double logVisits = Math.log(visits);
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < childCount; i++) {
+                Node child = children[i];
+                double value = child.points / (2.0 * child.visits) + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package tictactoe.search;
+
+import tictactoe.board.Field;
+import tictactoe.board.State;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Depth-limited negamax with alpha-beta pruning and a transposition table. Wins score
+ * {@code WIN_SCORE - ply}, so the fastest win and the slowest loss are preferred; positions cut off
+ * by the depth limit score 0. Boards bigger than 4x4 only consider cells next to existing symbols.
+ * The deadline is read every {@code CLOCK_INTERVAL} searched positions, so a search gives up within microseconds.
+ */
+public class NegamaxSearch implements Search, DepthLimitedSearch {
+    public static final int WIN_SCORE = 10_000;
+    static final int MAX_PLY = 1_024;
+
+    private static final int INFINITY = WIN_SCORE + 1;
+    private static final AtomicBoolean NEVER = new AtomicBoolean();
+    private static final int CLOCK_INTERVAL = 16;
+    // tables are shared between games, where the same position may be searched for either symbol
+    private static final long O_TO_MOVE = 0x9E3779B97F4A7C15L;
+
+    private final TranspositionTable table;
+    private final int maxDepth;
+    private int[][] moves = new int[0][];
+    private long nodes;
+    private int rootMove;
+    private int rootOffset;
+    private AtomicBoolean stop = NEVER;
+    private Deadline deadline = Deadline.NONE;
+    private boolean aborted;
+    private int clock;
+
+    /**
+     * @param maxDepth plies to look ahead, positions that need more are scored as draws
+     */
+    public NegamaxSearch(TranspositionTable table, int maxDepth) {
+        this.table = table;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public SearchResult search(Field field, String symbol) {
+        return search(field, symbol, maxDepth, 0, NEVER, Deadline.NONE);
+    }
+
+    @Override
+    public SearchResult search(Field field, String symbol, int depth, Deadline deadline) {
+        return search(field, symbol, depth, 0, NEVER, deadline);
+    }
+
+    @Override
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Search for a helper thread: root moves are tried starting from the {@code rootOffset}-th one and
+     * the search gives up, without touching the table again, once {@code stop} is set or the deadline passes.
+     *
+     * @return the result or null when the search gave up
+     */
+    SearchResult search(Field field, String symbol, int depth, int rootOffset, AtomicBoolean stop, Deadline deadline) {
+        long start = System.nanoTime();
+        nodes = 0;
+        rootMove = -1;
+        aborted = false;
+        clock = CLOCK_INTERVAL;
+        this.rootOffset = rootOffset;
+        this.stop = stop;
+        this.deadline = deadline;
+
+        depth = Math.min(depth, field.getFreeCellCount());
+        if (field.getState().isTerminal() || depth == 0) {
+            return new SearchResult(-1, 0, 0, 0, System.nanoTime() - start);
+        }
+
+        ensureBuffers(depth, field.getBoardSize().getCells());
+        int score = negamax(field, symbol, depth, 0, -INFINITY, INFINITY);
+        if (aborted) {
+            return null;
+        }
+        return new SearchResult(rootMove, score, depth, nodes, System.nanoTime() - start);
+    }
+
+    private boolean shouldStop() {
+        if (--clock == 0) {
+            clock = CLOCK_INTERVAL;
+            aborted |= deadline.hasPassed();
+        }
+        aborted |= stop.get();
+        return aborted;
+    }
+
+    private int negamax(Field field, String symbol, int depth, int ply, int alpha, int beta) {
+        nodes++;
+        if (shouldStop()) {
+            return 0;
+        }
+        int originalAlpha = alpha;
+        long key = tableKey(field, symbol);
+        long entry = table.probe(key);
+        int hashMove = -1;
+
+        if (entry != TranspositionTable.MISS) {
+            hashMove = TranspositionTable.move(entry);
+            if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int score = fromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || bound == TranspositionTable.LOWER_BOUND && score >= beta
+                        || bound == TranspositionTable.UPPER_BOUND && score <= alpha) {
+                    return score;
+                }
+            }
+        }
+
+        int[] candidates = moves[ply];
+        int count = fillMoves(field, candidates, hashMove);
+        if (ply == 0 && rootOffset % count != 0) {
+            rotate(candidates, count, rootOffset % count);
+        }
+        String opponent = "X".equals(symbol) ? "O" : "X";
+        State winning = "X".equals(symbol) ? State.X_WINS : State.O_WINS;
+
+        int bestScore = -INFINITY;
+        int bestMove = candidates[0];
+        for (int i = 0; i < count; i++) {
+            Field child = field.nextMove(candidates[i], symbol).getRight();
+            int score;
+            if (child.getState() == winning) {
+                score = WIN_SCORE - (ply + 1);
+            } else if (child.getFreeCellCount() == 0) {
+                score = 0;
+            } else if (depth == 1) {
+                nodes++;
+                if (shouldStop()) {
+                    return 0;
+                }
+                score = 0;
+            } else {
+                score = -negamax(child, opponent, depth - 1, ply + 1, -beta, -alpha);
+                if (aborted) {
+                    return 0;
+                }
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = candidates[i];
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        int bound = bestScore <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                : bestScore >= beta ? TranspositionTable.LOWER_BOUND
+                : TranspositionTable.EXACT;
+        table.store(key, bestMove, toTable(bestScore, ply), depth, bound);
+        if (ply == 0) {
+            rootMove = bestMove;
+        }
+        return bestScore;
+    }
+
+    static long tableKey(Field field, String symbol) {
+        return "X".equals(symbol) ? field.getZobristKey() : field.getZobristKey() ^ O_TO_MOVE;
+    }
+
+    private static int fillMoves(Field field, int[] candidates, int hashMove) {
+        int count = Candidates.fill(field, candidates);
+        for (int i = 1; i < count; i++) {
+            if (candidates[i] == hashMove) {
+                System.arraycopy(candidates, 0, candidates, 1, i);
+                candidates[0] = hashMove;
+                break;
+            }
+        }
+        return count;
+    }
+
+    private static void rotate(int[] candidates, int count, int offset) {
+        int[] head = new int[offset];
+        System.arraycopy(candidates, 0, head, 0, offset);
+        System.arraycopy(candidates, offset, candidates, 0, count - offset);
+        System.arraycopy(head, 0, candidates, count - offset, offset);
+    }
+
+    // win scores are kept relative to the stored node, so a transposition reached at another ply stays correct
+    private static int toTable(int score, int ply) {
+        if (score > WIN_SCORE - MAX_PLY) {
+            return score + ply;
+        } else if (score < -WIN_SCORE + MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score > WIN_SCORE - MAX_PLY) {
+            return score - ply;
+        } else if (score < -WIN_SCORE + MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    private void ensureBuffers(int depth, int cells) {
+        if (moves.length < depth || moves[0].length < cells) {
+            // iterative deepening asks for one more ply at a time, so grow ahead of it
+            moves = new int[Math.max(depth, 2 * moves.length)][cells];
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package tictactoe.search;
+
+import tictactoe.board.Field;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Searches on the {@link SearchPool} while the opponent thinks. Every likely reply of the opponent is
+ * played out and the answer to it is kept, keyed by the resulting position; the reply the transposition
+ * table predicts goes first, the rest follow in search order. Asking for an answer stops the search,
+ * so an answer that isn't ready yet is simply searched again the usual way. A ponderer holds no thread
+ * of its own, so one that's no longer asked leaves nothing behind.
+ */
+public class Ponderer {
+    private final TranspositionTable table;
+    private final NegamaxSearch search;
+    private final int depth;
+    private final Map<Long, SearchResult> answers = new ConcurrentHashMap<>();
+    private AtomicBoolean stop = new AtomicBoolean();
+    private Future<?> running;
+    private long ponderedKey;
+
+    /**
+     * @param depth plies searched for every answer
+     */
+    public Ponderer(TranspositionTable table, int depth) {
+        this.table = table;
+        this.depth = depth;
+        this.search = new NegamaxSearch(table, depth);
+    }
+
+    /**
+     * Starts thinking about answers for {@code symbol} to every move {@code opponent} may make from
+     * {@code field}. Calling it again for the same position keeps the running search.
+     */
+    public synchronized void start(Field field, String opponent, String symbol) {
+        long key = NegamaxSearch.tableKey(field, opponent);
+        if (running != null && key == ponderedKey) {
+            return;
+        }
+        stop();
+        answers.clear();
+        ponderedKey = key;
+        AtomicBoolean stopped = new AtomicBoolean();
+        stop = stopped;
+        running = SearchPool.shared().submit(() -> ponder(field, opponent, symbol, stopped));
+    }
+
+    /**
+     * Stops thinking and waits for the background search to give up, which takes microseconds.
+     */
+    public synchronized void stop() {
+        stop.set(true);
+        if (running != null) {
+            try {
+                running.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+            running = null;
+        }
+    }
+
+    /**
+     * Stops thinking and looks up the answer to the position the opponent's move led to.
+     *
+     * @return the answer or null when it wasn't found in time
+     */
+    public SearchResult answer(Field field) {
+        long start = System.nanoTime();
+        stop();
+        SearchResult pondered = answers.get(field.getZobristKey());
+        if (pondered == null) {
+            return null;
+        }
+        return new SearchResult(pondered.getMove(), pondered.getScore(), pondered.getDepth(), pondered.getNodes(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Waits for every reply to be answered, unless the thinking is stopped earlier.
+     */
+    void await() throws InterruptedException, ExecutionException {
+        Future<?> current;
+        synchronized (this) {
+            current = running;
+        }
+        if (current != null) {
+            current.get();
+        }
+    }
+
+    private void ponder(Field field, String opponent, String symbol, AtomicBoolean stopped) {
+        int[] replies = new int[field.getBoardSize().getCells()];
+        int count = Candidates.fill(field, replies);
+        long entry = table.probe(NegamaxSearch.tableKey(field, opponent));
+        int predicted = entry == TranspositionTable.MISS ? -1 : TranspositionTable.move(entry);
+        for (int i = 1; i < count; i++) {
+            if (replies[i] == predicted) {
+                replies[i] = replies[0];
+                replies[0] = predicted;
+                break;
+            }
+        }
+
+        for (int i = 0; i < count && !stopped.get(); i++) {
+            Field reply = field.nextMove(replies[i], opponent).getRight();
+            if (reply.getState().isTerminal()) {
+                continue;
+            }
+            SearchResult result = search.search(reply, symbol, depth, 0, stopped, Deadline.NONE);
+            if (result != null) {
+                answers.put(reply.getZobristKey(), result);
+            }
+        }
+    }
+}
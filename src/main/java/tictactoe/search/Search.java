@@ -0,0 +1,10 @@
+package tictactoe.search;
+
+import tictactoe.board.Field;
+
+/**
+ * Chooses a move for {@code symbol}, the side to move in {@code field}.
+ */
+public interface Search {
+    SearchResult search(Field field, String symbol);
+}
@@ -0,0 +1,21 @@
+package tictactoe.search;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pool the parallel searches of every bot run on, one worker per core. Bots come and go with games, the
+ * pool stays: its workers are daemons and end on their own after a while without searches.
+ */
+public final class SearchPool {
+
+    private SearchPool() {
+    }
+
+    public static ForkJoinPool shared() {
+        return Shared.POOL;
+    }
+
+    private static final class Shared {
+        static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,61 @@
+package tictactoe.search;
+
+/**
+ * Outcome of one search: the chosen cell, its score from the mover's point of view and what it cost.
+ */
+public class SearchResult {
+    private final int move;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    SearchResult(int move, int score, int depth, long nodes, long elapsedNanos) {
+        this.move = move;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return chosen cell or -1 when the position has no moves
+     */
+    public int getMove() {
+        return move;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return plies until the game is won (positive) or lost (negative), 0 when no forced result was found
+     */
+    public int getPliesToEnd() {
+        if (score > NegamaxSearch.WIN_SCORE - NegamaxSearch.MAX_PLY) {
+            return NegamaxSearch.WIN_SCORE - score;
+        } else if (score < -NegamaxSearch.WIN_SCORE + NegamaxSearch.MAX_PLY) {
+            return -(NegamaxSearch.WIN_SCORE + score);
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("move %d, score %d, depth %d, %d nodes in %.3f ms",
+                move, score, depth, nodes, elapsedNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,41 @@
+package tictactoe.search;
+
+/**
+ * Running totals over every search made by one player.
+ */
+public class SearchStatistics {
+    private long searches;
+    private long nodes;
+    private long elapsedNanos;
+
+    public void record(SearchResult result) {
+        searches++;
+        nodes += result.getNodes();
+        elapsedNanos += result.getElapsedNanos();
+    }
+
+    public long getSearches() {
+        return searches;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public double getNodesPerMove() {
+        return searches == 0 ? 0 : (double) nodes / searches;
+    }
+
+    public double getMicrosPerMove() {
+        return searches == 0 ? 0 : elapsedNanos / 1_000.0 / searches;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d searches, %.1f nodes and %.1f us per move", searches, getNodesPerMove(), getMicrosPerMove());
+    }
+}
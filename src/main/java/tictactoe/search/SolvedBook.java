@@ -0,0 +1,109 @@
+package tictactoe.search;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.CanonicalField;
+import tictactoe.board.Field;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Perfect play for every 3x3 position, solved at build time by {@link BookGenerator}. One short per
+ * canonical position code holds the best moves of the side to move, the game value and the plies left.
+ */
+public class SolvedBook {
+    static final String RESOURCE = "/tictactoe/search/classic.book";
+    static final int POSITIONS = 19683;
+
+    static final int WIN = 1;
+    static final int DRAW = 2;
+    static final int LOSS = 3;
+
+    private final ShortBuffer entries;
+
+    SolvedBook(ShortBuffer entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Reads the book resource on the first call, players take it when they are created so no move pays for it.
+     */
+    public static SolvedBook classic() {
+        return Classic.BOOK;
+    }
+
+    /**
+     * @return the book's move for {@code symbol} or null when the field isn't a 3x3 position
+     * where {@code symbol} is to move
+     */
+    public SearchResult lookup(Field field, String symbol) {
+        if (field.getBoardSize() != BoardSize.CLASSIC || !symbol.equals(toMove(field))) {
+            return null;
+        }
+        CanonicalField canonical = field.canonicalize();
+        int entry = entry(canonical.getField().getPositionCode());
+        if (value(entry) == 0) {
+            return null;
+        }
+
+        int move = canonical.toOriginalCell(Integer.numberOfTrailingZeros(bestMoves(entry)));
+        int distance = distance(entry);
+        int score = value(entry) == WIN ? NegamaxSearch.WIN_SCORE - distance
+                : value(entry) == LOSS ? -(NegamaxSearch.WIN_SCORE - distance)
+                : 0;
+        return new SearchResult(move, score, distance, 0, 0);
+    }
+
+    short entry(int positionCode) {
+        return entries.get(positionCode);
+    }
+
+    static String toMove(Field field) {
+        return (field.getBoardSize().getCells() - field.getFreeCellCount()) % 2 == 0 ? "X" : "O";
+    }
+
+    // bits 0-8: best canonical cells, 9-10: value, 11-14: plies to the end
+    static short pack(int bestMoves, int value, int distance) {
+        return (short) (bestMoves | value << 9 | distance << 11);
+    }
+
+    static int bestMoves(int entry) {
+        return entry & 0x1FF;
+    }
+
+    static int value(int entry) {
+        return (entry >>> 9) & 0x3;
+    }
+
+    static int distance(int entry) {
+        return (entry >>> 11) & 0xF;
+    }
+
+    // holder class, so the generator can use the packing helpers before the resource exists
+    private static final class Classic {
+        static final SolvedBook BOOK = new SolvedBook(read(RESOURCE));
+    }
+
+    private static ShortBuffer read(String resource) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(POSITIONS * Short.BYTES);
+        try (InputStream in = SolvedBook.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + resource + ", run ./gradlew generateBook");
+            }
+            byte[] chunk = new byte[4096];
+            for (int read; (read = in.read(chunk)) > 0 && buffer.hasRemaining(); ) {
+                buffer.put(chunk, 0, Math.min(read, buffer.remaining()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalStateException(resource + " is truncated, run ./gradlew generateBook");
+        }
+        buffer.flip();
+        return buffer.asShortBuffer();
+    }
+}
@@ -0,0 +1,180 @@
+package tictactoe.search;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size cache of search results indexed by {@link tictactoe.board.Field#getZobristKey()}.
+ * Slots come in buckets of two: the first keeps the deepest result seen for the bucket, the second
+ * always takes the newest one, so deep results survive while recent ones still find room.
+ * Threads may share a table without locks: the key is stored XOR-ed with its entry, so a slot torn by
+ * two concurrent writes no longer matches either key and reads as a miss.
+ */
+public class TranspositionTable {
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    static final long MISS = 0;
+    static final int BYTES_PER_SLOT = 2 * Long.BYTES;
+    static final long DEFAULT_SHARED_MEGABYTES = 64;
+    static final int MAX_DEPTH = 0xFF;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int bucketMask;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+
+    /**
+     * @param sizeBits log2 of the number of slots, at least 1
+     */
+    public TranspositionTable(int sizeBits) {
+        keys = new long[1 << sizeBits];
+        entries = new long[1 << sizeBits];
+        bucketMask = (1 << (sizeBits - 1)) - 1;
+    }
+
+    /**
+     * @return the largest table that fits into {@code bytes}, with at least one bucket
+     */
+    public static TranspositionTable withMemoryBudget(long bytes) {
+        long slots = Math.max(2, Math.min(bytes / BYTES_PER_SLOT, 1L << 30));
+        return new TranspositionTable(63 - Long.numberOfLeadingZeros(slots));
+    }
+
+    /**
+     * Table shared by every search-based bot of the process, so simultaneous games reuse each other's results.
+     * Its budget is {@value #DEFAULT_SHARED_MEGABYTES} MB unless the {@code tictactoe.table.megabytes}
+     * system property says otherwise.
+     */
+    public static TranspositionTable shared() {
+        return Shared.TABLE;
+    }
+
+    /**
+     * @return packed entry or {@link #MISS}
+     */
+    public long probe(long key) {
+        probes.increment();
+        int slot = ((int) key & bucketMask) << 1;
+        long deep = entries[slot];
+        if ((keys[slot] ^ deep) == key) {
+            hits.increment();
+            return deep;
+        }
+        long recent = entries[slot + 1];
+        if ((keys[slot + 1] ^ recent) == key) {
+            hits.increment();
+            return recent;
+        }
+        if (deep != MISS || recent != MISS) {
+            collisions.increment();
+        }
+        return MISS;
+    }
+
+    /**
+     * @param depth plies the result was searched to; deeper results are kept as {@value #MAX_DEPTH}
+     *              plies, which later searches to more plies take for too shallow
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        stores.increment();
+        long entry = pack(move, score, depth, bound);
+        int slot = ((int) key & bucketMask) << 1;
+        long deep = entries[slot];
+        boolean sameKey = (keys[slot] ^ deep) == key;
+        if (!sameKey && depth < depth(deep)) {
+            slot++;
+            sameKey = (keys[slot] ^ entries[slot]) == key;
+        }
+        if (!sameKey && entries[slot] != MISS) {
+            replacements.increment();
+        }
+        keys[slot] = key ^ entry;
+        entries[slot] = entry;
+    }
+
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 0;
+            entries[i] = MISS;
+        }
+    }
+
+    public long getSizeBytes() {
+        return (long) keys.length * BYTES_PER_SLOT;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return probes that missed although their bucket held results of other positions
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    /**
+     * @return stores that overwrote the result of another position
+     */
+    public long getReplacements() {
+        return replacements.sum();
+    }
+
+    public double getHitRate() {
+        long probeCount = getProbes();
+        return probeCount == 0 ? 0 : (double) getHits() / probeCount;
+    }
+
+    public double getCollisionRate() {
+        long probeCount = getProbes();
+        return probeCount == 0 ? 0 : (double) getCollisions() / probeCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d KB, %d probes, %.1f%% hits, %.1f%% collisions, %d of %d stores replaced another position",
+                getSizeBytes() / 1024, getProbes(), 100 * getHitRate(), 100 * getCollisionRate(),
+                getReplacements(), getStores());
+    }
+
+    // bits 0-10: move + 1, 11-12: bound, 13-20: depth, 21-36: score
+    static long pack(int move, int score, int depth, int bound) {
+        return (move + 1) | (long) bound << 11 | (long) Math.min(depth, MAX_DEPTH) << 13
+                | (long) (score & 0xFFFF) << 21;
+    }
+
+    static int move(long entry) {
+        return (int) (entry & 0x7FF) - 1;
+    }
+
+    static int bound(long entry) {
+        return (int) (entry >>> 11) & 0x3;
+    }
+
+    static int depth(long entry) {
+        return (int) (entry >>> 13) & 0xFF;
+    }
+
+    static int score(long entry) {
+        return (short) (entry >>> 21);
+    }
+
+    private static final class Shared {
+        static final TranspositionTable TABLE = withMemoryBudget(
+                Long.getLong("tictactoe.table.megabytes", DEFAULT_SHARED_MEGABYTES) << 20);
+    }
+}
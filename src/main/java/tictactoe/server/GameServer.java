@@ -0,0 +1,31 @@
+package tictactoe.server;
+
+import tictactoe.Main;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Accepts TCP connections and plays the usual menu with each of them, e.g. through {@code telnet localhost 7777}.
+ * Run with {@code ./gradlew serve}.
+ */
+public class GameServer {
+    static final int DEFAULT_PORT = 7777;
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        try (ServerSocket server = new ServerSocket(port);
+             SessionHost host = new SessionHost(Main.createCommandValidator())) {
+            System.out.printf("Hosting games on port %d%n", server.getLocalPort());
+            while (true) {
+                Socket socket = server.accept();
+                try {
+                    host.host(socket.getInputStream(), socket.getOutputStream());
+                } catch (IOException e) {
+                    socket.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package tictactoe.server;
+
+import tictactoe.game.CommandValidator;
+import tictactoe.game.StartMenu;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every session, its menu and its games, on a virtual thread of its own. A session waiting for
+ * its player's input holds no platform thread, only its stack and a few small buffers, so one JVM keeps
+ * tens of thousands of idle games.
+ */
+public class SessionHost implements AutoCloseable {
+    private static final int INPUT_BUFFER_BYTES = 256;
+    private static final int OUTPUT_BUFFER_CHARS = 512;
+
+    private final CommandValidator commandValidator;
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    public SessionHost(CommandValidator commandValidator) {
+        this.commandValidator = commandValidator;
+    }
+
+    /**
+     * Starts a session reading commands and moves from {@code in} and writing to {@code out}.
+     * Both are closed when the player exits or goes away.
+     */
+    public Future<?> host(InputStream in, OutputStream out) {
+        return sessions.submit(() -> run(in, out));
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Waits for the running sessions to end.
+     */
+    @Override
+    public void close() {
+        sessions.close();
+    }
+
+    private void run(InputStream in, OutputStream out) {
+        activeSessions.incrementAndGet();
+        try (Scanner scanner = new Scanner(new InputReader(in));
+             Writer output = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), OUTPUT_BUFFER_CHARS)) {
+            new StartMenu(scanner, commandValidator, output).start();
+        } catch (NoSuchElementException | IOException | UncheckedIOException e) {
+            // the player disconnected, there is nobody left to tell
+        } finally {
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    // readers from java.io and java.nio.channels either lock a monitor while reading, which pins the carrier
+    // thread as long as the player thinks, or hold an 8 KB buffer; this one does neither
+    private static final class InputReader extends Reader {
+        private final InputStream in;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer bytes = ByteBuffer.allocate(INPUT_BUFFER_BYTES);
+
+        InputReader(InputStream in) {
+            this.in = in;
+            bytes.flip();
+        }
+
+        @Override
+        public int read(char[] target, int offset, int length) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(target, offset, length);
+            while (true) {
+                decoder.decode(bytes, chars, false);
+                if (chars.position() > offset || length == 0) {
+                    return chars.position() - offset;
+                }
+                bytes.compact();
+                int read = in.read(bytes.array(), bytes.position(), bytes.remaining());
+                if (read > 0) {
+                    bytes.position(bytes.position() + read);
+                }
+                bytes.flip();
+                if (read < 0) {
+                    return -1;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package tictactoe.solver;
+
+/**
+ * Numbers the positions with a given piece count densely. X moves first, so {@code k} pieces are always
+ * {@code (k + 1) / 2} X and {@code k / 2} O; a position's index is the colex rank of its occupied cells
+ * among all {@code k}-subsets of the board times the number of ways to place the X among them, plus the
+ * rank of the X pattern.
+ */
+final class PositionIndex {
+    private final int cells;
+    private final long[][] binomials;
+
+    PositionIndex(int cells) {
+        this.cells = cells;
+        binomials = new long[cells + 2][cells + 2];
+        for (int n = 0; n < binomials.length; n++) {
+            binomials[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                binomials[n][k] = binomials[n - 1][k - 1] + binomials[n - 1][k];
+            }
+        }
+    }
+
+    static int xCount(int pieces) {
+        return (pieces + 1) / 2;
+    }
+
+    /**
+     * @return number of positions with {@code pieces} pieces
+     */
+    long size(int pieces) {
+        return binomials[cells][pieces] * binomials[pieces][xCount(pieces)];
+    }
+
+    int index(int xMask, int oMask) {
+        int occupied = xMask | oMask;
+        int pieces = Integer.bitCount(occupied);
+        return (int) (rank(occupied) * binomials[pieces][xCount(pieces)] + rank(compress(xMask, occupied)));
+    }
+
+    /**
+     * @return mask of the occupied cells of the position, {@link #xMask(int, int, int)} tells which are X
+     */
+    int occupied(int pieces, long index) {
+        return unrank(index / binomials[pieces][xCount(pieces)], pieces);
+    }
+
+    int xMask(int pieces, long index, int occupied) {
+        return deposit(unrank(index % binomials[pieces][xCount(pieces)], xCount(pieces)), occupied);
+    }
+
+    // colex rank: the i-th lowest set bit b adds C(b, i + 1)
+    private long rank(int mask) {
+        long rank = 0;
+        for (int i = 1; mask != 0; i++, mask &= mask - 1) {
+            rank += binomials[Integer.numberOfTrailingZeros(mask)][i];
+        }
+        return rank;
+    }
+
+    private int unrank(long rank, int bits) {
+        int mask = 0;
+        int bit = cells;
+        for (int i = bits; i > 0; i--) {
+            do {
+                bit--;
+            } while (binomials[bit][i] > rank);
+            rank -= binomials[bit][i];
+            mask |= 1 << bit;
+        }
+        return mask;
+    }
+
+    // packs the bits of mask found under the set bits of within next to each other
+    private static int compress(int mask, int within) {
+        int result = 0;
+        for (int i = 0; within != 0; i++, within &= within - 1) {
+            if ((mask & within & -within) != 0) {
+                result |= 1 << i;
+            }
+        }
+        return result;
+    }
+
+    // spreads the low bits of pattern over the set bits of within
+    private static int deposit(int pattern, int within) {
+        int result = 0;
+        for (int i = 0; within != 0; i++, within &= within - 1) {
+            if ((pattern & 1 << i) != 0) {
+                result |= within & -within;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,214 @@
+package tictactoe.solver;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.util.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Solves a whole board by retrograde analysis. Positions are labelled one piece count at a time, from the
+ * full board down to the empty one: finished positions by their result, the others from the labels of
+ * the positions one move later, which are all known by then. Every level is split into index ranges
+ * labelled in parallel on a fork-join pool.
+ * Positions are indexed densely by {@link PositionIndex}, so boards up to {@value #MAX_CELLS} cells fit:
+ * 4x4 has about ten million positions and needs 13 MB.
+ */
+public class RetrogradeSolver {
+    public static final int MAX_CELLS = 16;
+    // ranges are split at multiples of this, so no two tasks write into the same long of packed values
+    private static final int VALUES_PER_WORD = 32;
+    private static final int TASK_SIZE = 1 << 13;
+    // lines only take cells of the board, so they never share all 32 bits
+    private static final int NO_LINE = -1;
+
+    private final ForkJoinPool pool;
+
+    public RetrogradeSolver(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public static void main(String[] args) {
+        Either<String, BoardSize> boardSize = BoardSize.fromString(args.length > 0 ? args[0] : "4x4");
+        if (boardSize.isLeft()) {
+            System.out.println(boardSize.getLeft());
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        long start = System.nanoTime();
+        SolvedTable table = new RetrogradeSolver(pool).solve(boardSize.getRight());
+        System.out.printf("Solved %d positions of %s on %d threads in %.1f s into %d KB%n",
+                table.getPositions(), boardSize.getRight(), pool.getParallelism(),
+                (System.nanoTime() - start) / 1e9, table.getSizeBytes() / 1024);
+        System.out.printf("The empty board is a %s for X in %d plies%n",
+                name(table.value(0, 0)), table.distance(Field.empty(boardSize.getRight())));
+    }
+
+    /**
+     * @throws IllegalArgumentException when the board has more than {@value #MAX_CELLS} cells
+     */
+    public SolvedTable solve(BoardSize boardSize) {
+        int cells = boardSize.getCells();
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException("Boards up to " + MAX_CELLS + " cells can be solved");
+        }
+        PositionIndex index = new PositionIndex(cells);
+        int[] lines = lines(boardSize);
+        long[][] values = new long[cells + 1][];
+        byte[][] distances = new byte[cells + 1][];
+        for (int pieces = cells; pieces >= 0; pieces--) {
+            int size = (int) index.size(pieces);
+            values[pieces] = new long[(size + VALUES_PER_WORD - 1) / VALUES_PER_WORD];
+            distances[pieces] = new byte[size];
+            pool.invoke(new Level(new Context(index, lines, cells, pieces, values, distances), 0, size));
+        }
+        return new SolvedTable(boardSize, index, values, distances);
+    }
+
+    private static String name(int value) {
+        return value == SolvedTable.WIN ? "win" : value == SolvedTable.LOSS ? "loss" : "draw";
+    }
+
+    // every run of win-length cells in a row, column or diagonal, as a mask
+    static int[] lines(BoardSize boardSize) {
+        int width = boardSize.getWidth();
+        int height = boardSize.getHeight();
+        int length = boardSize.getWinLength();
+        int[][] directions = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+        List<Integer> lines = new ArrayList<>();
+        for (int[] direction : directions) {
+            for (int row = 0; row < height; row++) {
+                for (int column = 0; column < width; column++) {
+                    int lastColumn = column + (length - 1) * direction[0];
+                    int lastRow = row + (length - 1) * direction[1];
+                    if (lastColumn < 0 || lastColumn >= width || lastRow < 0 || lastRow >= height) {
+                        continue;
+                    }
+                    int mask = 0;
+                    for (int i = 0; i < length; i++) {
+                        mask |= 1 << ((row + i * direction[1]) * width + column + i * direction[0]);
+                    }
+                    lines.add(mask);
+                }
+            }
+        }
+        return lines.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static final class Context {
+        final PositionIndex index;
+        final int[] lines;
+        final int cells;
+        final int pieces;
+        final long[] values;
+        final byte[] distances;
+        final long[] nextValues;
+        final byte[] nextDistances;
+
+        Context(PositionIndex index, int[] lines, int cells, int pieces, long[][] values, byte[][] distances) {
+            this.index = index;
+            this.lines = lines;
+            this.cells = cells;
+            this.pieces = pieces;
+            this.values = values[pieces];
+            this.distances = distances[pieces];
+            this.nextValues = pieces < cells ? values[pieces + 1] : null;
+            this.nextDistances = pieces < cells ? distances[pieces + 1] : null;
+        }
+
+        /**
+         * @return the cells every line of {@code mask} goes through, {@code NO_LINE} when it has none
+         */
+        int sharedByLines(int mask) {
+            int shared = NO_LINE;
+            for (int line : lines) {
+                if ((mask & line) == line) {
+                    shared &= line;
+                }
+            }
+            return shared;
+        }
+    }
+
+    private static final class Level extends RecursiveAction {
+        private final Context context;
+        private final int from;
+        private final int to;
+
+        Level(Context context, int from, int to) {
+            this.context = context;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                for (int position = from; position < to; position++) {
+                    label(position);
+                }
+                return;
+            }
+            int middle = (from + (to - from) / 2) / VALUES_PER_WORD * VALUES_PER_WORD;
+            invokeAll(new Level(context, from, middle), new Level(context, middle, to));
+        }
+
+        private void label(int position) {
+            Context c = context;
+            int occupied = c.index.occupied(c.pieces, position);
+            int xMask = c.index.xMask(c.pieces, position, occupied);
+            int oMask = occupied & ~xMask;
+            int xShared = c.sharedByLines(xMask);
+            int oShared = c.sharedByLines(oMask);
+            boolean xToMove = c.pieces % 2 == 0;
+
+            if (xShared != NO_LINE || oShared != NO_LINE) {
+                // only the side that just moved can have a line, and all of its lines need a cell in common:
+                // the last move, or the game would have ended before; the rest no game reaches and stays unknown
+                int moved = xToMove ? oShared : xShared;
+                int waiting = xToMove ? xShared : oShared;
+                if (waiting == NO_LINE && moved != 0) {
+                    store(position, SolvedTable.LOSS, 0);
+                }
+                return;
+            }
+            if (c.pieces == c.cells) {
+                store(position, SolvedTable.DRAW, 0);
+                return;
+            }
+
+            int best = SolvedTable.LOSS;
+            int bestDistance = 0;
+            for (int free = ~occupied & ((1 << c.cells) - 1); free != 0; free &= free - 1) {
+                int cell = free & -free;
+                int child = xToMove ? c.index.index(xMask | cell, oMask) : c.index.index(xMask, oMask | cell);
+                int reply = (int) (c.nextValues[child >>> 5] >>> ((child & 31) << 1)) & 3;
+                int distance = c.nextDistances[child] + 1;
+                if (reply == SolvedTable.LOSS) {
+                    if (best != SolvedTable.WIN || distance < bestDistance) {
+                        best = SolvedTable.WIN;
+                        bestDistance = distance;
+                    }
+                } else if (best == SolvedTable.WIN) {
+                    continue;
+                } else if (reply == SolvedTable.DRAW) {
+                    if (best != SolvedTable.DRAW || distance > bestDistance) {
+                        best = SolvedTable.DRAW;
+                        bestDistance = distance;
+                    }
+                } else if (best == SolvedTable.LOSS && distance > bestDistance) {
+                    bestDistance = distance;
+                }
+            }
+            store(position, best, bestDistance);
+        }
+
+        private void store(int position, int value, int distance) {
+            context.values[position >>> 5] |= (long) value << ((position & 31) << 1);
+            context.distances[position] = (byte) distance;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package tictactoe.solver;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Game-theoretic value of every position of one board size, for the side to move, as found by the
+ * {@link RetrogradeSolver}. Values take two bits per position, the plies to the end of the game with
+ * perfect play (fastest wins, slowest losses) a byte.
+ */
+public class SolvedTable {
+    public static final int UNKNOWN = 0;
+    public static final int WIN = 1;
+    public static final int DRAW = 2;
+    public static final int LOSS = 3;
+
+    private final BoardSize boardSize;
+    private final PositionIndex index;
+    // per piece count: 32 values to a long, and one distance per position
+    private final long[][] values;
+    private final byte[][] distances;
+
+    SolvedTable(BoardSize boardSize, PositionIndex index, long[][] values, byte[][] distances) {
+        this.boardSize = boardSize;
+        this.index = index;
+        this.values = values;
+        this.distances = distances;
+    }
+
+    public BoardSize getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * @return {@link #WIN}, {@link #DRAW} or {@link #LOSS} for the side to move, {@link #UNKNOWN} for positions
+     * of other board sizes and positions no game reaches
+     */
+    public int value(Field field) {
+        int position = indexOf(field);
+        return position < 0 ? UNKNOWN : value(values[pieces(field)], position);
+    }
+
+    /**
+     * @return plies to the end of the game with perfect play, -1 when the value is unknown
+     */
+    public int distance(Field field) {
+        int position = indexOf(field);
+        if (position < 0 || value(values[pieces(field)], position) == UNKNOWN) {
+            return -1;
+        }
+        return distances[pieces(field)][position];
+    }
+
+    /**
+     * @return a move keeping the value of the position, winning as fast and losing as slowly as possible,
+     * or -1 when the game is over or the value is unknown
+     */
+    public int bestMove(Field field) {
+        if (value(field) == UNKNOWN || field.getState().isTerminal()) {
+            return -1;
+        }
+        String symbol = pieces(field) % 2 == 0 ? "X" : "O";
+        int[] moves = new int[field.getFreeCellCount()];
+        int count = field.fillPossibleMoves(moves);
+        int bestMove = -1;
+        int bestScore = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            Field child = field.nextMove(moves[i], symbol).getRight();
+            int distance = distance(child);
+            int reply = value(child);
+            int score = reply == LOSS ? 100 - distance : reply == WIN ? distance - 100 : 0;
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = moves[i];
+            }
+        }
+        return bestMove;
+    }
+
+    public long getPositions() {
+        long positions = 0;
+        for (byte[] level : distances) {
+            positions += level.length;
+        }
+        return positions;
+    }
+
+    public long getSizeBytes() {
+        long bytes = getPositions();
+        for (long[] level : values) {
+            bytes += (long) level.length * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the 2-bit values, level after level by piece count and in index order within a level.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        for (long[] level : values) {
+            for (long word : level) {
+                data.writeLong(word);
+            }
+        }
+        data.flush();
+    }
+
+    int value(int pieces, int position) {
+        return value(values[pieces], position);
+    }
+
+    private static int value(long[] level, int position) {
+        return (int) (level[position >>> 5] >>> ((position & 31) << 1)) & 3;
+    }
+
+    private int indexOf(Field field) {
+        if (!boardSize.equals(field.getBoardSize())) {
+            return -1;
+        }
+        int xMask = 0;
+        int oMask = 0;
+        for (int cell = 0; cell < boardSize.getCells(); cell++) {
+            if (field.isX(cell)) {
+                xMask |= 1 << cell;
+            } else if (!field.isFree(cell)) {
+                oMask |= 1 << cell;
+            }
+        }
+        if (Integer.bitCount(xMask) != PositionIndex.xCount(Integer.bitCount(xMask | oMask))) {
+            return -1;
+        }
+        return index.index(xMask, oMask);
+    }
+
+    private int pieces(Field field) {
+        return boardSize.getCells() - field.getFreeCellCount();
+    }
+}
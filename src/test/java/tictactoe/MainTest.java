@@ -6,6 +6,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import tictactoe.board.Field;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -46,5 +47,13 @@ public class MainTest {
     public void generateField() {
         String field = Field.fromCells(input).getPrintableField();
         Assert.assertEquals(expectedResult, field);
+        Assert.assertSame(field, Field.fromCells(input).getPrintableField());
+    }
+
+    @Test
+    public void printField() throws IOException {
+        StringBuilder out = new StringBuilder();
+        Field.fromCells(input).printTo(out);
+        Assert.assertEquals(expectedResult, out.toString());
     }
 }
\ No newline at end of file
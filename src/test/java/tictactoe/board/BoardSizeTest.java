@@ -0,0 +1,52 @@
+package tictactoe.board;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import tictactoe.util.Either;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class BoardSizeTest {
+    private final String input;
+    private final String expectedResult;
+
+    public BoardSizeTest(String input, String expectedResult) {
+        this.input = input;
+        this.expectedResult = expectedResult;
+    }
+
+    @Parameterized.Parameters
+    public static Collection fields() {
+        return Arrays.asList(new Object[][]{
+                {"3x3", "3x3x3"},
+                {"3x3x3", "3x3x3"},
+                {"4x4", "4x4x4"},
+                {"15x15", "15x15x5"},
+                {"19x19x5", "19x19x5"},
+                {"7x3", "7x3x3"},
+                {"7x3x6", "7x3x6"},
+                {"3x3x4", "Win length should be from 1 to 3!"},
+                {"33x33", "Board side should be from 1 to 32!"},
+                {"0x3", "Board side should be from 1 to 32!"},
+                {"3 3", "Board size should look like 15x15 or 15x15x5!"},
+                {"big", "Board size should look like 15x15 or 15x15x5!"},
+        });
+    }
+
+    @Test
+    public void shouldParseBoardSize() {
+        Either<String, BoardSize> boardSize = BoardSize.fromString(input);
+
+        String actual = boardSize.isRight() ? boardSize.getRight().toString() : boardSize.getLeft();
+        Assert.assertEquals(expectedResult, actual);
+    }
+
+    @Test
+    public void shouldReuseClassicBoardSize() {
+        Assert.assertSame(BoardSize.CLASSIC, BoardSize.fromString("3x3").getRight());
+    }
+}
@@ -3,13 +3,11 @@ package tictactoe.board;
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.util.Map;
-
 public class CoordinateMappingTest {
 
     @Test
     public void getPrintableMapping() {
-        String actualPrintableMapping = CoordinateMapping.getPrintableMapping();
+        String actualPrintableMapping = BoardSize.CLASSIC.getCoordinateMapping().getPrintableMapping();
 
         String expected = "(1 3) (2 3) (3 3)" +
                 "(1 2) (2 2) (3 2)" +
@@ -18,10 +16,23 @@ public class CoordinateMappingTest {
     }
 
     @Test
-    public void getCoordinateMapping() {
-        Map<Coordinate, Integer> coordinateMapping = CoordinateMapping.getCoordinateMapping();
+    public void shouldMapCoordinatesToCells() {
+        CoordinateMapping coordinateMapping = BoardSize.CLASSIC.getCoordinateMapping();
+        String[] coordinatesByCell = {"1 3", "2 3", "3 3", "1 2", "2 2", "3 2", "1 1", "2 1", "3 1"};
+
+        for (int cell = 0; cell < coordinatesByCell.length; cell++) {
+            Coordinate coordinate = Coordinate.fromString(coordinatesByCell[cell]).getRight();
+            Assert.assertEquals(cell, coordinateMapping.toCell(coordinate));
+            Assert.assertSame(coordinate, coordinateMapping.getCoordinate(cell));
+        }
+    }
+
+    @Test
+    public void shouldRejectCoordinatesOffTheBoard() {
+        CoordinateMapping coordinateMapping = BoardSize.CLASSIC.getCoordinateMapping();
 
-        //todo improve test
-        Assert.assertEquals(9, coordinateMapping.size());
+        Assert.assertEquals(-1, coordinateMapping.toCell(Coordinate.fromString("4 1").getRight()));
+        Assert.assertEquals(-1, coordinateMapping.toCell(Coordinate.fromString("0 1").getRight()));
+        Assert.assertEquals(-1, coordinateMapping.toCell(Coordinate.fromString("1 99").getRight()));
     }
-}
\ No newline at end of file
+}
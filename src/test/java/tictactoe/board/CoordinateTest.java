@@ -16,6 +16,23 @@ public class CoordinateTest {
         Assert.assertTrue(coordinateEither.isRight());
     }
 
+    @Test
+    public void shouldReuseCachedCoordinates() {
+        Either<String, Coordinate> first = Coordinate.fromString("3 2");
+        Either<String, Coordinate> second = Coordinate.fromString("3 2 ");
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(3, first.getRight().getX());
+        Assert.assertEquals(2, first.getRight().getY());
+        Assert.assertEquals("3 2", first.getRight().getCoordinates());
+    }
+
+    @Test
+    public void shouldParseNumbersOutsideOfBoard() {
+        Assert.assertEquals(-4, Coordinate.fromString("-4 1").getRight().getX());
+        Assert.assertEquals(100, Coordinate.fromString("1 100").getRight().getY());
+    }
+
     @Test
     public void shouldReturnErrorWithMessageForInvalidString() {
         String expectMessage = "You should two enter numbers with one space!";
@@ -37,6 +54,11 @@ public class CoordinateTest {
         strings.add("a");
         strings.add("1 ");
         strings.add("1  1");
+        strings.add(" 1 1");
+        strings.add("1 1 1");
+        strings.add("- 1");
+        strings.add("1 99999999999");
+        strings.add("");
         return strings;
     }
 }
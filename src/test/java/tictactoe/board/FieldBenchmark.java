@@ -0,0 +1,54 @@
+package tictactoe.board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the average cost of {@link Field#fromCells(String)} over every 3x3 cell string.
+ * Run with {@code ./gradlew benchmark}.
+ */
+public class FieldBenchmark {
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) {
+        List<String> positions = allPositions();
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += buildAll(positions);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += buildAll(positions);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double perField = (double) elapsed / ((long) MEASURED_ROUNDS * positions.size());
+        System.out.printf("Field.fromCells: %.1f ns/op over %d positions (checksum %d)%n",
+                perField, positions.size(), sink);
+    }
+
+    private static long buildAll(List<String> positions) {
+        long checksum = 0;
+        for (String position : positions) {
+            Field field = Field.fromCells(position);
+            checksum += field.getState().ordinal() + field.getWinner().length() + field.getPossibleMoves().size();
+        }
+        return checksum;
+    }
+
+    private static List<String> allPositions() {
+        char[] symbols = {' ', 'X', 'O'};
+        List<String> positions = new ArrayList<>(19683);
+        char[] cells = new char[9];
+        for (int code = 0; code < 19683; code++) {
+            for (int i = 0, rest = code; i < cells.length; i++, rest /= 3) {
+                cells[i] = symbols[rest % 3];
+            }
+            positions.add(new String(cells));
+        }
+        return positions;
+    }
+}
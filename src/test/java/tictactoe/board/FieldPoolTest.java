@@ -0,0 +1,35 @@
+package tictactoe.board;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FieldPoolTest {
+
+    @Test
+    public void shouldInternEveryReachablePosition() {
+        Assert.assertEquals(5478, ClassicField.reachablePositions());
+    }
+
+    @Test
+    public void shouldReturnSameInstanceForSamePosition() {
+        Field field = Field.fromCells("X   O    ");
+
+        Assert.assertSame(field, Field.fromCells("X   O    "));
+        Assert.assertSame(field, Field.fromCells("X        ").nextMove("2 2", "O").getRight());
+    }
+
+    @Test
+    public void shouldReturnSharedResultForRepeatedMove() {
+        Field field = Field.fromCells("         ");
+
+        Assert.assertSame(field.nextMove("1 1", "X"), field.nextMove("1 1", "X"));
+    }
+
+    @Test
+    public void shouldInternUnreachablePositionsOnFirstUse() {
+        Field impossible = Field.fromCells("XXXXXXXXX");
+
+        Assert.assertSame(impossible, Field.fromCells("XXXXXXXXX"));
+        Assert.assertEquals(State.IMPOSSIBLE, impossible.getState());
+    }
+}
@@ -28,6 +28,8 @@ public class FieldValidationTest {
                 {"XOXOXOOXX",   "X wins"},
                 {"XOOOXOXXO",   "O wins"},
                 {"OOOXXOXXO",   "O wins"},
+                {"OOX X X  ",   "X wins"},
+                {"OX OX O X",   "O wins"},
                 {"XOXOOXXXO",   "Draw"},
                 {"XO OOX X ",   "Game not finished"},
                 {"XO " +
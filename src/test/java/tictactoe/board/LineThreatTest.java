@@ -0,0 +1,104 @@
+package tictactoe.board;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class LineThreatTest {
+
+    @Test
+    public void shouldFindWinningMovesOfEveryClassicPosition() {
+        char[] symbols = {' ', 'X', 'O'};
+        char[] cells = new char[9];
+        for (int code = 0; code < 19683; code++) {
+            for (int i = 0, rest = code; i < cells.length; i++, rest /= 3) {
+                cells[i] = symbols[rest % 3];
+            }
+            Field field = Field.fromCells(new String(cells));
+
+            Assert.assertArrayEquals(new String(cells), bruteForce(field, "X"), winningMoves(field, "X"));
+            Assert.assertArrayEquals(new String(cells), bruteForce(field, "O"), winningMoves(field, "O"));
+        }
+    }
+
+    @Test
+    public void shouldKeepCountersUpToDateMoveByMove() {
+        Random random = new Random(42);
+        for (String size : new String[]{"7x6x4", "15x15", "9x9x1"}) {
+            BoardSize boardSize = BoardSize.fromString(size).getRight();
+            Field field = Field.empty(boardSize);
+            String symbol = "X";
+            int[] moves = new int[boardSize.getCells()];
+            while (field.getFreeCellCount() > 0) {
+                Assert.assertArrayEquals(size, bruteForce(field, "X"), winningMoves(field, "X"));
+                Assert.assertArrayEquals(size, bruteForce(field, "O"), winningMoves(field, "O"));
+
+                int count = field.fillPossibleMoves(moves);
+                field = field.nextMove(moves[random.nextInt(count)], symbol).getRight();
+                symbol = "X".equals(symbol) ? "O" : "X";
+            }
+        }
+    }
+
+    @Test
+    public void shouldCountParsedFields() {
+        BoardSize boardSize = BoardSize.fromString("5x5x4").getRight();
+        Field field = Field.fromCells(boardSize, " XXX " + "O    " + "O    " + "O    " + "     ");
+
+        Assert.assertArrayEquals(new int[]{0, 4}, winningMoves(field, "X"));
+        Assert.assertArrayEquals(new int[]{0, 20}, winningMoves(field, "O"));
+    }
+
+    @Test
+    public void shouldTransformWinningMovesWithCanonicalField() {
+        BoardSize boardSize = BoardSize.fromString("5x5x4").getRight();
+        Field field = Field.fromCells(boardSize, "     " + "    O" + "    O" + "    O" + " XXX ").canonicalize().getField();
+
+        Assert.assertArrayEquals(bruteForce(field, "X"), winningMoves(field, "X"));
+        Assert.assertArrayEquals(bruteForce(field, "O"), winningMoves(field, "O"));
+    }
+
+    private static int[] winningMoves(Field field, String symbol) {
+        int[] moves = new int[field.getBoardSize().getCells()];
+        int count = field.fillWinningMoves(moves, symbol);
+        int[] result = Arrays.copyOf(moves, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    // tries every free cell against every run of winLength cells through it
+    private static int[] bruteForce(Field field, String symbol) {
+        BoardSize boardSize = field.getBoardSize();
+        int width = boardSize.getWidth();
+        int height = boardSize.getHeight();
+        String[] rows = field.getPrintableField().split("\n");
+        int[] moves = new int[boardSize.getCells()];
+        int count = 0;
+        for (int cell = 0; cell < moves.length; cell++) {
+            if (!field.isFree(cell)) {
+                continue;
+            }
+            int column = cell % width;
+            int row = cell / width;
+            boolean wins = false;
+            for (int[] direction : new int[][]{{1, 0}, {0, 1}, {1, 1}, {1, -1}}) {
+                for (int start = -(boardSize.getWinLength() - 1); start <= 0 && !wins; start++) {
+                    boolean line = true;
+                    for (int i = start; i < start + boardSize.getWinLength() && line; i++) {
+                        int x = column + i * direction[0];
+                        int y = row + i * direction[1];
+                        line = x >= 0 && x < width && y >= 0 && y < height
+                                && (i == 0 || rows[y + 1].charAt(2 + 2 * x) == symbol.charAt(0));
+                    }
+                    wins = line;
+                }
+            }
+            if (wins) {
+                moves[count++] = cell;
+            }
+        }
+        return Arrays.copyOf(moves, count);
+    }
+}
@@ -0,0 +1,58 @@
+package tictactoe.board;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.util.Either;
+
+public class MnkFieldTest {
+    private static final BoardSize FOUR_BY_FOUR = BoardSize.fromString("4x4x3").getRight();
+    private static final BoardSize GOMOKU = BoardSize.fromString("15x15").getRight();
+
+    @Test
+    public void shouldDetectStatesOnLargerBoard() {
+        Assert.assertEquals(State.X_WINS, Field.fromCells(FOUR_BY_FOUR, " X  " + " XO " + " XO " + "    ").getState());
+        Assert.assertEquals(State.O_WINS, Field.fromCells(FOUR_BY_FOUR, "   O" + "XXO " + " O X" + "    ").getState());
+        Assert.assertEquals(State.GAME_NOT_FINISHED, Field.fromCells(FOUR_BY_FOUR, "XX  " + "OO  " + "    " + "    ").getState());
+        Assert.assertEquals(State.IMPOSSIBLE, Field.fromCells(FOUR_BY_FOUR, "XXX " + "    " + "    " + "    ").getState());
+        Assert.assertEquals(State.DRAW, Field.fromCells(FOUR_BY_FOUR, "XXOO" + "OOXX" + "XXOO" + "OOXX").getState());
+    }
+
+    @Test
+    public void shouldDetectWinThroughLastMove() {
+        Field field = Field.empty(GOMOKU);
+        String[] moves = {"1 1", "1 15", "2 2", "2 15", "3 3", "3 15", "4 4", "4 15"};
+        for (int i = 0; i < moves.length; i++) {
+            field = field.nextMove(moves[i], i % 2 == 0 ? "X" : "O").getRight();
+            Assert.assertEquals(State.GAME_NOT_FINISHED, field.getState());
+        }
+
+        field = field.nextMove("5 5", "X").getRight();
+        Assert.assertEquals(State.X_WINS, field.getState());
+        Assert.assertEquals("X", field.getWinner());
+    }
+
+    @Test
+    public void shouldValidateCoordinatesAgainstBoardSize() {
+        Field field = Field.empty(GOMOKU);
+
+        Either<String, Field> outOfRange = field.nextMove("16 1", "X");
+        Assert.assertTrue(outOfRange.isLeft());
+        Assert.assertEquals("Coordinate should be from 1 to 15!", outOfRange.getLeft());
+
+        Field next = field.nextMove("15 15", "X").getRight();
+        Assert.assertEquals(GOMOKU.getCells() - 1, next.getPossibleMoves().size());
+        Assert.assertEquals("This cell is occupied! Choose another one!", next.nextMove("15 15", "O").getLeft());
+    }
+
+    @Test
+    public void shouldPrintLargerBoard() {
+        Field field = Field.fromCells(FOUR_BY_FOUR, "X   " + "    " + "  O " + "    ");
+
+        Assert.assertEquals("-----------\n" +
+                "| X       |\n" +
+                "|         |\n" +
+                "|     O   |\n" +
+                "|         |\n" +
+                "-----------", field.getPrintableField());
+    }
+}
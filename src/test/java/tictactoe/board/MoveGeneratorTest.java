@@ -0,0 +1,64 @@
+package tictactoe.board;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.util.Either;
+
+import java.util.Arrays;
+
+public class MoveGeneratorTest {
+
+    @Test
+    public void shouldFillFreeCellsInAscendingOrder() {
+        Field field = Field.fromCells("X O  X  O");
+        int[] moves = new int[9];
+
+        int count = field.fillPossibleMoves(moves);
+
+        Assert.assertEquals(field.getFreeCellCount(), count);
+        Assert.assertArrayEquals(new int[]{1, 3, 4, 6, 7}, Arrays.copyOf(moves, count));
+    }
+
+    @Test
+    public void shouldOrderClassicMovesCentreCornersEdges() {
+        int[] moves = new int[9];
+
+        int count = Field.fromCells("         ").fillOrderedMoves(moves);
+
+        Assert.assertEquals(9, count);
+        Assert.assertArrayEquals(new int[]{4, 0, 2, 6, 8, 1, 3, 5, 7}, moves);
+    }
+
+    @Test
+    public void shouldFillFreeCellsAcrossWords() {
+        BoardSize boardSize = BoardSize.fromString("9x9").getRight();
+        Field field = Field.empty(boardSize)
+                .nextMove(0, "X").getRight()
+                .nextMove(63, "O").getRight()
+                .nextMove(64, "X").getRight()
+                .nextMove(80, "O").getRight();
+        int[] moves = new int[81];
+
+        int count = field.fillPossibleMoves(moves);
+
+        Assert.assertEquals(77, count);
+        Assert.assertEquals(77, field.getFreeCellCount());
+        Assert.assertEquals(1, moves[0]);
+        Assert.assertEquals(62, moves[61]);
+        Assert.assertEquals(65, moves[62]);
+        Assert.assertEquals(79, moves[76]);
+
+        field.fillOrderedMoves(moves);
+        Assert.assertEquals("Centre goes first", 40, moves[0]);
+    }
+
+    @Test
+    public void shouldValidateCellMoves() {
+        Field field = Field.fromCells("X        ");
+
+        Either<String, Field> occupied = field.nextMove(0, "O");
+        Assert.assertEquals("This cell is occupied! Choose another one!", occupied.getLeft());
+        Assert.assertEquals("There is no such cell!", field.nextMove(9, "O").getLeft());
+        Assert.assertEquals(Field.fromCells("X   O    "), field.nextMove(4, "O").getRight());
+    }
+}
@@ -0,0 +1,78 @@
+package tictactoe.board;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class SymmetryTest {
+
+    @Test
+    public void shouldShareCanonicalFormBetweenCorners() {
+        Field canonical = Field.fromCells("X        ").canonicalize().getField();
+
+        Assert.assertSame(canonical, Field.fromCells("  X      ").canonicalize().getField());
+        Assert.assertSame(canonical, Field.fromCells("      X  ").canonicalize().getField());
+        Assert.assertSame(canonical, Field.fromCells("        X").canonicalize().getField());
+        Assert.assertNotSame(canonical, Field.fromCells(" X       ").canonicalize().getField());
+    }
+
+    @Test
+    public void shouldFindAllEssentiallyDifferentPositions() {
+        Set<Field> reachable = new HashSet<>();
+        collect(Field.fromCells("         "), "X", reachable);
+
+        Set<Field> canonical = new HashSet<>();
+        for (Field field : reachable) {
+            canonical.add(field.canonicalize().getField());
+        }
+
+        Assert.assertEquals(5478, reachable.size());
+        Assert.assertEquals(765, canonical.size());
+    }
+
+    @Test
+    public void shouldMapMovesBackToOriginalPosition() {
+        Field field = Field.fromCells(" X  O   X");
+        CanonicalField canonical = field.canonicalize();
+
+        for (Coordinate move : canonical.getField().getPossibleMoves()) {
+            Coordinate original = canonical.toOriginal(move);
+            Field expected = canonical.getField().nextMove(move.getCoordinates(), "O").getRight().canonicalize().getField();
+            Field actual = field.nextMove(original.getCoordinates(), "O").getRight().canonicalize().getField();
+
+            Assert.assertSame(expected, actual);
+        }
+    }
+
+    @Test
+    public void shouldCanonicalizeLargerSquareBoards() {
+        BoardSize boardSize = BoardSize.fromString("4x4x3").getRight();
+        Field topLeft = Field.fromCells(boardSize, "X   " + "    " + "    " + "   O");
+        Field bottomRight = Field.fromCells(boardSize, "O   " + "    " + "    " + "   X");
+
+        CanonicalField canonical = bottomRight.canonicalize();
+        Assert.assertEquals(topLeft.canonicalize().getField(), canonical.getField());
+        Assert.assertEquals(15, canonical.toOriginalCell(canonical.toCanonicalCell(15)));
+    }
+
+    @Test
+    public void shouldKeepNonSquareBoardsAsTheyAre() {
+        BoardSize boardSize = BoardSize.fromString("4x3x3").getRight();
+        Field field = Field.fromCells(boardSize, "X   " + "    " + "   O");
+
+        Assert.assertSame(field, field.canonicalize().getField());
+        Assert.assertEquals(0, field.canonicalize().getTransform());
+    }
+
+    private static void collect(Field field, String symbol, Set<Field> reachable) {
+        if (!reachable.add(field) || field.getState().isTerminal()) {
+            return;
+        }
+        String nextSymbol = symbol.equals("X") ? "O" : "X";
+        for (Coordinate move : field.getPossibleMoves()) {
+            collect(field.nextMove(move.getCoordinates(), symbol).getRight(), nextSymbol, reachable);
+        }
+    }
+}
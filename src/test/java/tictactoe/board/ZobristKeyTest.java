@@ -0,0 +1,58 @@
+package tictactoe.board;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class ZobristKeyTest {
+
+    @Test
+    public void shouldGiveEveryClassicPositionItsOwnKey() {
+        char[] symbols = {' ', 'X', 'O'};
+        char[] cells = new char[9];
+        Set<Long> keys = new HashSet<>();
+        for (int code = 0; code < 19683; code++) {
+            for (int i = 0, rest = code; i < cells.length; i++, rest /= 3) {
+                cells[i] = symbols[rest % 3];
+            }
+            keys.add(Field.fromCells(new String(cells)).getZobristKey());
+        }
+
+        Assert.assertEquals(19683, keys.size());
+    }
+
+    @Test
+    public void shouldUpdateKeyIncrementally() {
+        BoardSize boardSize = BoardSize.fromString("5x5x4").getRight();
+        Field field = Field.empty(boardSize)
+                .nextMove("1 1", "X").getRight()
+                .nextMove("3 3", "O").getRight()
+                .nextMove("5 2", "X").getRight();
+
+        Field parsed = Field.fromCells(boardSize, "     " + "     " + "  O  " + "    X" + "X    ");
+        Assert.assertEquals(parsed.getZobristKey(), field.getZobristKey());
+        Assert.assertEquals(parsed, field);
+    }
+
+    @Test
+    public void shouldMatchTranspositions() {
+        Field empty = Field.empty(BoardSize.fromString("15x15").getRight());
+        Field first = empty.nextMove("7 7", "X").getRight().nextMove("8 8", "O").getRight().nextMove("9 9", "X").getRight();
+        Field second = empty.nextMove("9 9", "X").getRight().nextMove("8 8", "O").getRight().nextMove("7 7", "X").getRight();
+
+        Assert.assertEquals(first.getZobristKey(), second.getZobristKey());
+        Assert.assertNotEquals(empty.getZobristKey(), first.getZobristKey());
+    }
+
+    @Test
+    public void shouldSeparateBoardSizes() {
+        long classic = Field.empty(BoardSize.CLASSIC).getZobristKey();
+        long fourInRow = Field.empty(BoardSize.fromString("4x4x4").getRight()).getZobristKey();
+        long threeInRow = Field.empty(BoardSize.fromString("4x4x3").getRight()).getZobristKey();
+
+        Assert.assertNotEquals(classic, fourInRow);
+        Assert.assertNotEquals(fourInRow, threeInRow);
+    }
+}
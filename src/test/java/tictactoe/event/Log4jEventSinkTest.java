@@ -0,0 +1,58 @@
+package tictactoe.event;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Log4jEventSinkTest {
+
+    @Test
+    public void shouldLogEveryEvent() {
+        Logger logger = (Logger) LogManager.getLogger("tictactoe.event.test");
+        logger.setLevel(Level.INFO);
+        Capture capture = new Capture();
+        capture.start();
+        logger.addAppender(capture);
+        try {
+            Log4jEventSink sink = new Log4jEventSink(logger);
+            Field field = Field.fromCells("XXXOO    ");
+
+            sink.moveRequested("Enter the coordinates: ", true);
+            sink.invalidMove("This cell is occupied! Choose another one!");
+            sink.moveMade(field, 2, 5);
+            sink.moveMade(field, 4, 4);
+            sink.gameOver(field, 5);
+
+            Assert.assertEquals(4, capture.messages.size());
+            Assert.assertEquals("Rejected move: This cell is occupied! Choose another one!", capture.messages.get(0));
+            Assert.assertEquals("X took cell 2 with move 5", capture.messages.get(1));
+            Assert.assertEquals("O took cell 4 with move 4", capture.messages.get(2));
+            Assert.assertEquals("X wins after 5 moves", capture.messages.get(3));
+        } finally {
+            logger.removeAppender(capture);
+        }
+    }
+
+    private static final class Capture extends AbstractAppender {
+        final List<String> messages = new ArrayList<>();
+
+        Capture() {
+            super("capture", null, null, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            // events may be reused by the logger, so the text is taken right away
+            messages.add(event.getMessage().getFormattedMessage());
+        }
+    }
+}
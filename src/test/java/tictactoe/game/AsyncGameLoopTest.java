@@ -0,0 +1,122 @@
+package tictactoe.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+import tictactoe.event.GameEventSink;
+import tictactoe.player.AsyncPlayer;
+import tictactoe.player.Player;
+import tictactoe.player.impl.AsyncHumanPlayer;
+import tictactoe.player.impl.EasyBotPlayer;
+import tictactoe.util.Either;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncGameLoopTest {
+
+    @Test
+    public void shouldDriveManyGamesWithFewThreads() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<AsyncGameLoop> games = new ArrayList<>();
+            List<CompletableFuture<State>> results = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                AsyncPlayer[] players = {
+                        AsyncPlayer.of(new EasyBotPlayer("X"), pool),
+                        AsyncPlayer.of(new EasyBotPlayer("O"), pool)};
+                AsyncGameLoop game = new AsyncGameLoop(players, BoardSize.CLASSIC, new StringWriter());
+                games.add(game);
+                results.add(game.run().toCompletableFuture());
+            }
+
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+
+            for (int i = 0; i < games.size(); i++) {
+                Assert.assertTrue(results.get(i).get().isTerminal());
+                Assert.assertTrue(games.get(i).getMoveCount() >= 5 && games.get(i).getMoveCount() <= 9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldAdvanceWhenHumansSubmitMoves() throws Exception {
+        StringWriter output = new StringWriter();
+        AsyncHumanPlayer first = new AsyncHumanPlayer("X");
+        AsyncHumanPlayer second = new AsyncHumanPlayer("O");
+        AsyncGameLoop game = new AsyncGameLoop(new AsyncPlayer[]{first, second}, BoardSize.CLASSIC, output);
+
+        CompletableFuture<State> result = game.run().toCompletableFuture();
+        Assert.assertFalse(second.submit("1 1"));
+        Assert.assertTrue(first.submit("1 1"));
+        Assert.assertTrue(second.submit("5 5"));
+        Assert.assertTrue(second.submit("1 2"));
+        Assert.assertTrue(first.submit("2 1"));
+        Assert.assertTrue(second.submit("2 2"));
+        Assert.assertFalse(result.isDone());
+        Assert.assertTrue(first.submit("3 1"));
+
+        Assert.assertEquals(State.X_WINS, result.get());
+        Assert.assertEquals(5, game.getMoveCount());
+        String written = output.toString();
+        Assert.assertTrue(written.startsWith("Enter the coordinates: \n"));
+        Assert.assertTrue(written.contains("Coordinate should be from 1 to 3!\nEnter the coordinates: \n"));
+        Assert.assertTrue(written.endsWith(game.getField().getPrintableField() + "\n"));
+    }
+
+    @Test
+    public void shouldPlayLongGamesOfImmediateMovesOnAFlatStack() throws Exception {
+        BoardSize boardSize = BoardSize.fromString("32x32x32").getRight();
+        AsyncPlayer[] players = {
+                AsyncPlayer.of(new EasyBotPlayer("X"), Runnable::run),
+                AsyncPlayer.of(new EasyBotPlayer("O"), Runnable::run)};
+        AsyncGameLoop game = new AsyncGameLoop(players, boardSize, GameEventSink.NONE);
+        List<CompletableFuture<State>> result = new ArrayList<>();
+
+        // a small stack, as a thousand nested moves would overflow it
+        Thread thread = new Thread(null, () -> result.add(game.run().toCompletableFuture()), "game", 128 << 10);
+        thread.start();
+        thread.join();
+
+        Assert.assertEquals(State.DRAW, result.get(0).get(0, TimeUnit.SECONDS));
+        Assert.assertEquals(boardSize.getCells(), game.getMoveCount());
+    }
+
+    @Test
+    public void shouldFailWhenPlayerFails() {
+        AsyncPlayer broken = new AsyncPlayer() {
+            @Override
+            public CompletionStage<Either<String, Field>> nextMoveAsync(Field field) {
+                CompletableFuture<Either<String, Field>> move = new CompletableFuture<>();
+                move.completeExceptionally(new IllegalStateException("gone"));
+                return move;
+            }
+
+            @Override
+            public String moveMessage() {
+                return "";
+            }
+        };
+        Player bot = new EasyBotPlayer("O");
+        AsyncGameLoop game = new AsyncGameLoop(new AsyncPlayer[]{broken, AsyncPlayer.of(bot, Runnable::run)},
+                BoardSize.CLASSIC, new StringWriter());
+
+        try {
+            game.run().toCompletableFuture().get();
+            Assert.fail();
+        } catch (InterruptedException | ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
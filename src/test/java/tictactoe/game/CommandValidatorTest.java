@@ -40,6 +40,20 @@ public class CommandValidatorTest {
                 {"start easy user", Either.right(new String[]{"start", "easy", "user"})},
                 {"start easy easy", Either.right(new String[]{"start", "easy", "easy"})},
                 {"exit", Either.right(new String[]{"exit"})},
+                {"start easy easy 15x15", Either.right(new String[]{"start", "easy", "easy", "15x15"})},
+                {"start user easy 4x4x3", Either.right(new String[]{"start", "user", "easy", "4x4x3"})},
+                {"start easy easy 40x40", Either.left("Board side should be from 1 to 32!")},
+                {"start easy 5x5", badParameters()},
+                {"start easy 5", badParameters()},
+                {"start easy easy 5", badParameters()},
+                {"simulate easy user 1000", Either.right(new String[]{"simulate", "easy", "user", "1000"})},
+                {"simulate easy easy 10 4x4x3", Either.right(new String[]{"simulate", "easy", "easy", "10", "4x4x3"})},
+                {"simulate easy easy", badParameters()},
+                {"simulate easy 10 easy", badParameters()},
+                {"simulate easy exit 10", badParameters()},
+                {"simulate easy easy 0", Either.left("Number of games should be from 1 to 9223372036854775807!")},
+                {"simulate easy easy 99999999999999999999", Either.left("Number of games should be from 1 to 9223372036854775807!")},
+                {"simulate easy easy 10 40x40", Either.left("Board side should be from 1 to 32!")},
         });
     }
 
@@ -65,6 +79,7 @@ public class CommandValidatorTest {
         List<String> supportedFunctionalCommands = new ArrayList<>();
         supportedFunctionalCommands.add("start");
         supportedFunctionalCommands.add("exit");
+        supportedFunctionalCommands.add("simulate");
         List<String> supportedLevelCommands = new ArrayList<>();
         supportedLevelCommands.add("user");
         supportedLevelCommands.add("easy");
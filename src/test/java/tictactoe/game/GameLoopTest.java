@@ -2,12 +2,18 @@ package tictactoe.game;
 
 import org.junit.Assert;
 import org.junit.Test;
+import tictactoe.board.BoardSize;
 import tictactoe.board.Field;
 import tictactoe.board.State;
+import tictactoe.event.GameEventSink;
 import tictactoe.game.GameLoop;
 import tictactoe.player.Player;
 import tictactoe.player.impl.EasyBotPlayer;
 
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
 public class GameLoopTest {
 
     @Test
@@ -26,6 +32,81 @@ public class GameLoopTest {
         }
     }
 
+    @Test
+    public void shouldWriteMovesIntoOutput() {
+        StringWriter output = new StringWriter();
+        Player[] players = {new EasyBotPlayer("X"), new EasyBotPlayer("O")};
+        GameLoop gameLoop = new GameLoop(players, BoardSize.CLASSIC, output);
+
+        gameLoop.run();
+
+        String written = output.toString();
+        Assert.assertTrue(written.startsWith("Making move level \"easy\"\n---------\n"));
+        Assert.assertTrue(written.endsWith(gameLoop.getField().getPrintableField() + "\n"));
+    }
+
+    @Test
+    public void shouldLetBotPonderDuringHumanTurns() {
+        List<Field> pondered = new ArrayList<>();
+        int[] stops = new int[1];
+        Player human = new EasyBotPlayer("X") {
+            @Override
+            public boolean isHuman() {
+                return true;
+            }
+        };
+        Player bot = new EasyBotPlayer("O") {
+            @Override
+            public void ponder(Field field) {
+                pondered.add(field);
+            }
+
+            @Override
+            public void stopPondering() {
+                stops[0]++;
+            }
+        };
+        GameLoop gameLoop = new GameLoop(new Player[]{human, bot}, BoardSize.CLASSIC, new StringWriter());
+
+        gameLoop.run();
+
+        Assert.assertEquals((gameLoop.getMoveCount() + 1) / 2, pondered.size());
+        Assert.assertEquals(Field.empty(BoardSize.CLASSIC), pondered.get(0));
+        Assert.assertEquals(1, stops[0]);
+    }
+
+    @Test
+    public void shouldTellSinkAboutEveryMove() {
+        List<String> events = new ArrayList<>();
+        GameEventSink sink = new GameEventSink() {
+            @Override
+            public void moveRequested(String prompt, boolean human) {
+                events.add("requested");
+            }
+
+            @Override
+            public void moveMade(Field field, int cell, int moveCount) {
+                Assert.assertFalse(field.isFree(cell));
+                Assert.assertEquals(moveCount % 2 == 1, field.isX(cell));
+                events.add("made " + moveCount);
+            }
+
+            @Override
+            public void gameOver(Field field, int moveCount) {
+                events.add("over " + field.getState() + " " + moveCount);
+            }
+        };
+        GameLoop gameLoop = new GameLoop(new Player[]{new EasyBotPlayer("X"), new EasyBotPlayer("O")},
+                BoardSize.CLASSIC, sink);
+
+        State state = gameLoop.run();
+
+        int moves = gameLoop.getMoveCount();
+        Assert.assertEquals(2 * moves + 1, events.size());
+        Assert.assertEquals("made " + moves, events.get(2 * moves - 1));
+        Assert.assertEquals("over " + state + " " + moves, events.get(2 * moves));
+    }
+
     private boolean isCondition(Field field, int movesCounter) {
         if (field.getStateName().equals(State.DRAW.getName()))
             return movesCounter == 9;
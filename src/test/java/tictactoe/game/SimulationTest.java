@@ -0,0 +1,50 @@
+package tictactoe.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.player.impl.EasyBotPlayer;
+import tictactoe.player.impl.HardBotPlayer;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class SimulationTest {
+
+    @Test
+    public void shouldCountEveryGame() {
+        SimulationResult result = new Simulation(new ForkJoinPool(3))
+                .run(() -> new EasyBotPlayer("X"), () -> new EasyBotPlayer("O"), BoardSize.CLASSIC, 10_000);
+
+        Assert.assertEquals(10_000, result.getGames());
+        Assert.assertEquals(3, result.getThreads());
+        long lengths = 0;
+        for (int moves = 0; moves <= 9; moves++) {
+            lengths += result.getGamesOfLength(moves);
+        }
+        Assert.assertEquals(10_000, lengths);
+        Assert.assertEquals(0, result.getGamesOfLength(4));
+        Assert.assertTrue(result.getGamesOfLength(9) >= result.getDraws());
+        Assert.assertTrue(result.getXWins() > result.getOWins());
+        Assert.assertTrue(result.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    public void shouldNeverLetHardBotLose() {
+        SimulationResult result = new Simulation(new ForkJoinPool(2))
+                .run(() -> new EasyBotPlayer("X"), () -> new HardBotPlayer("O"), BoardSize.CLASSIC, 500);
+
+        Assert.assertEquals(0, result.getXWins());
+        Assert.assertEquals(500, result.getOWins() + result.getDraws());
+    }
+
+    @Test
+    public void shouldDescribeResults() {
+        SimulationResult result = new SimulationResult(3, 1, 0, new long[]{0, 0, 0, 0, 0, 3, 1, 0, 0, 0}, 2, 2_000_000_000L);
+
+        String description = result.describe("easy", "medium");
+
+        Assert.assertTrue(description.startsWith("Played 4 games on 2 threads in 2.0 s, 2 games/s"));
+        Assert.assertTrue(description.contains("X (easy) wins 75.0%, O (medium) wins 25.0%, draws 0.0%"));
+        Assert.assertTrue(description.endsWith("   6: 1 (25.0%)"));
+    }
+}
@@ -1,13 +1,26 @@
 package tictactoe.game;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import tictactoe.journal.GameJournal;
+import tictactoe.journal.GameRecord;
+import tictactoe.journal.JournalReader;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class StartMenuTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void shouldSimulateGame() {
         StartMenu startMenu = new StartMenu(null, createCommandValidator());
@@ -26,6 +39,10 @@ public class StartMenuTest {
         Assert.assertEquals("game ended", startMenu.getLastState());
         Assert.assertTrue(startMenu.isRunning());
 
+        startMenu.validateAndRun("start easy medium 5x5x4");
+        Assert.assertEquals("game ended", startMenu.getLastState());
+        Assert.assertTrue(startMenu.isRunning());
+
         startMenu.validateAndRun("exit");
         Assert.assertEquals("exiting", startMenu.getLastState());
         Assert.assertFalse(startMenu.isRunning());
@@ -36,11 +53,48 @@ public class StartMenuTest {
 
     }
 
+    @Test
+    public void shouldJournalPlayedAndSimulatedGames() throws IOException {
+        Path directory = folder.newFolder().toPath();
+        try (GameJournal journal = new GameJournal(directory)) {
+            StartMenu startMenu = new StartMenu(null, createCommandValidator(), new StringWriter(), journal);
+
+            startMenu.validateAndRun("start medium easy 4x4");
+            startMenu.validateAndRun("simulate easy medium 20");
+        }
+
+        List<GameRecord> records;
+        try (Stream<GameRecord> stream = JournalReader.stream(directory)) {
+            records = stream.collect(Collectors.toList());
+        }
+        Assert.assertEquals(21, records.size());
+        Assert.assertEquals("medium", records.get(0).getXLevel());
+        Assert.assertEquals(16, records.get(0).getBoardSize().getCells());
+        Assert.assertEquals(records.get(0).getResult(),
+                records.get(0).replay(records.get(0).getMoveCount()).getState());
+        Assert.assertEquals("medium", records.get(20).getOLevel());
+    }
+
+    @Test
+    public void shouldRunSimulation() {
+        StringWriter output = new StringWriter();
+        StartMenu startMenu = new StartMenu(null, createCommandValidator(), output);
+
+        startMenu.validateAndRun("simulate easy medium 200");
+        Assert.assertEquals("simulation ended", startMenu.getLastState());
+        Assert.assertTrue(output.toString().startsWith("Played 200 games on "));
+
+        startMenu.validateAndRun("simulate easy user 200");
+        Assert.assertEquals("Only bots can play simulations!", startMenu.getLastState());
+        Assert.assertTrue(startMenu.isRunning());
+    }
+
     //todo same in CommandValidatorTest. move it to utils
     private CommandValidator createCommandValidator() {
         List<String> supportedFunctionalCommands = new ArrayList<>();
         supportedFunctionalCommands.add("start");
         supportedFunctionalCommands.add("exit");
+        supportedFunctionalCommands.add("simulate");
         List<String> supportedLevelCommands = new ArrayList<>();
         supportedLevelCommands.add("user");
         supportedLevelCommands.add("easy");
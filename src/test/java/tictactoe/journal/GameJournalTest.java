@@ -0,0 +1,158 @@
+package tictactoe.journal;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+import tictactoe.game.Simulation;
+import tictactoe.game.SimulationResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class GameJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadBackWhatWasAppended() throws IOException {
+        Path directory = folder.newFolder().toPath();
+        GameRecord classic = new GameRecord(BoardSize.CLASSIC, "user", "hard", State.X_WINS, 1_700_000_000_000L,
+                12_345_678L, new int[]{6, 0, 7, 1, 8});
+        BoardSize big = BoardSize.fromString("15x15").getRight();
+        GameRecord gomoku = new GameRecord(big, "mcts", "", State.DRAW, 1L, 2L, new int[]{224, 0, 112, 17});
+
+        try (GameJournal journal = new GameJournal(directory)) {
+            journal.append(classic);
+            journal.append(gomoku);
+            Assert.assertEquals(2, journal.getRecords());
+        }
+
+        List<GameRecord> records = read(directory);
+        Assert.assertEquals(2, records.size());
+        GameRecord first = records.get(0);
+        Assert.assertSame(BoardSize.CLASSIC, first.getBoardSize());
+        Assert.assertEquals("user", first.getXLevel());
+        Assert.assertEquals("hard", first.getOLevel());
+        Assert.assertEquals(State.X_WINS, first.getResult());
+        Assert.assertEquals(1_700_000_000_000L, first.getStartMillis());
+        Assert.assertEquals(12_345_678L, first.getDurationNanos());
+        Assert.assertEquals(5, first.getMoveCount());
+        Assert.assertEquals("OO----XXX", cells(first));
+        Assert.assertEquals(State.X_WINS, first.replay(5).getState());
+        GameRecord second = records.get(1);
+        Assert.assertEquals(big.toString(), second.getBoardSize().toString());
+        Assert.assertEquals("", second.getOLevel());
+        Assert.assertEquals(224, second.getMove(0));
+        Assert.assertEquals(17, second.getMove(3));
+    }
+
+    @Test
+    public void shouldPackClassicMovesIntoNibbles() {
+        GameRecord fiveMoves = new GameRecord(BoardSize.CLASSIC, "easy", "easy", State.X_WINS, 0, 0,
+                new int[]{6, 0, 7, 1, 8});
+        GameRecord nineMoves = new GameRecord(BoardSize.CLASSIC, "easy", "easy", State.DRAW, 0, 0,
+                new int[]{4, 0, 8, 2, 1, 7, 6, 3, 5});
+
+        Assert.assertEquals(2, nineMoves.getEncodedLength() - fiveMoves.getEncodedLength());
+        Assert.assertTrue(nineMoves.getEncodedLength() <= 45);
+    }
+
+    @Test
+    public void shouldRollSegmentsUnderConcurrentAppends() throws Exception {
+        Path directory = folder.newFolder().toPath();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SimulationResult result;
+        try (GameJournal journal = new GameJournal(directory, GameJournal.MAX_RECORD_BYTES, 100)) {
+            result = new Simulation(pool, journal).run("easy", "medium", BoardSize.CLASSIC, 5_000);
+            Assert.assertEquals(5_000, journal.getRecords());
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        Assert.assertTrue(GameJournal.segments(directory).size() > 10);
+        List<GameRecord> records = read(directory);
+        Assert.assertEquals(5_000, records.size());
+        Assert.assertEquals(result.getXWins(), records.stream().filter(r -> r.getResult() == State.X_WINS).count());
+        Assert.assertEquals(result.getGamesOfLength(9), records.stream().filter(r -> r.getMoveCount() == 9).count());
+        for (GameRecord record : records) {
+            Assert.assertEquals("easy", record.getXLevel());
+            Assert.assertEquals("medium", record.getOLevel());
+            Assert.assertEquals(record.getResult(), record.replay(record.getMoveCount()).getState());
+        }
+    }
+
+    @Test
+    public void shouldStartNewSegmentWhenReopened() throws IOException {
+        Path directory = folder.newFolder().toPath();
+        GameRecord record = new GameRecord(BoardSize.CLASSIC, "easy", "hard", State.O_WINS, 0, 0,
+                new int[]{0, 4, 1, 2, 3, 6});
+
+        try (GameJournal journal = new GameJournal(directory)) {
+            journal.append(record);
+        }
+        try (GameJournal journal = new GameJournal(directory)) {
+            journal.append(record);
+            journal.append(record);
+        }
+
+        Assert.assertEquals(2, GameJournal.segments(directory).size());
+        Assert.assertEquals(3, read(directory).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnfinishedGames() {
+        new GameRecord(BoardSize.CLASSIC, "easy", "easy", State.GAME_NOT_FINISHED, 0, 0, new int[]{4});
+    }
+
+    @Test
+    public void shouldReportCorruptRecords() {
+        GameRecord record = new GameRecord(BoardSize.CLASSIC, "easy", "hard", State.O_WINS, 0, 0,
+                new int[]{0, 4, 1, 2, 3, 6});
+        ByteBuffer buffer = ByteBuffer.allocate(GameJournal.MAX_RECORD_BYTES);
+        buffer.position(8);
+        record.writeTo(buffer);
+
+        assertCorrupt(buffer, 8 + GameRecord.HEADER_BYTES + 3, (byte) 7, "unknown result 7");
+        assertCorrupt(buffer, 8 + GameRecord.HEADER_BYTES, (byte) 0, "board 0x3x3");
+        assertCorrupt(buffer, 8 + GameRecord.HEADER_BYTES + 4, (byte) 1, "262 moves on 9 cells");
+    }
+
+    private static void assertCorrupt(ByteBuffer written, int index, byte value, String reason) {
+        ByteBuffer buffer = ByteBuffer.allocate(written.capacity());
+        buffer.put(written.array()).put(index, value).position(8);
+        try {
+            GameRecord.readFrom(buffer);
+            Assert.fail(reason);
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Corrupt journal record at byte 8: " + reason));
+            Assert.assertEquals(8, buffer.position());
+        }
+    }
+
+    private static List<GameRecord> read(Path directory) {
+        try (Stream<GameRecord> records = JournalReader.stream(directory)) {
+            return records.collect(Collectors.toList());
+        }
+    }
+
+    private static String cells(GameRecord record) {
+        Field field = record.replay(record.getMoveCount());
+        StringBuilder cells = new StringBuilder();
+        for (int cell = 0; cell < 9; cell++) {
+            cells.append(field.isFree(cell) ? '-' : field.isX(cell) ? 'X' : 'O');
+        }
+        return cells.toString();
+    }
+}
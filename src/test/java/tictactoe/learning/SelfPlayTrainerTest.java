@@ -0,0 +1,56 @@
+package tictactoe.learning;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.Field;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+public class SelfPlayTrainerTest {
+
+    @Test
+    public void shouldLearnThatBlockingBeatsLosing() {
+        // one worker, so the outcome doesn't depend on how racing updates interleave
+        ValueTable table = new SelfPlayTrainer(new ForkJoinPool(1), new SplittableRandom(7)).train(50_000);
+
+        // X threatens the top row: O blocking it keeps the game open, anything else loses
+        Field blocked = Field.fromCells("XXO O    ");
+        Field ignored = Field.fromCells("XX  OO   ");
+
+        Assert.assertTrue(table.get(blocked) < table.get(ignored));
+        Assert.assertTrue(table.get(ignored) > 0.5);
+    }
+
+    @Test
+    public void shouldKeepValuesWithinRange() {
+        ValueTable table = new SelfPlayTrainer(new ForkJoinPool(2), new SplittableRandom(11)).train(10_000);
+
+        for (float value : table.values) {
+            Assert.assertTrue(value >= -1 && value <= 1);
+        }
+    }
+
+    @Test
+    public void shouldReadWhatWasWritten() throws IOException {
+        ValueTable table = new SelfPlayTrainer(new ForkJoinPool(1), new SplittableRandom(3)).train(1_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        table.writeTo(out);
+        ValueTable read = ValueTable.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        Assert.assertEquals(ValueTable.POSITIONS * Short.BYTES, out.size());
+        for (int i = 0; i < ValueTable.POSITIONS; i++) {
+            Assert.assertEquals(table.values[i], read.values[i], 1.0 / Short.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void shouldShipTrainedTable() {
+        Assert.assertEquals(ValueTable.POSITIONS, ValueTable.classic().values.length);
+        Assert.assertTrue(ValueTable.classic().get(Field.fromCells("XX  OO   ")) > 0.5);
+    }
+}
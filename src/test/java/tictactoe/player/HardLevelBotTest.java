@@ -2,12 +2,122 @@ package tictactoe.player;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+import tictactoe.player.impl.EasyBotPlayer;
+import tictactoe.player.impl.HardBotPlayer;
+import tictactoe.search.NegamaxSearch;
+import tictactoe.search.SearchResult;
+import tictactoe.util.Either;
 
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
 public class HardLevelBotTest {
+    private final String input;
+    private final String expected;
+    private final String description;
+
+    public HardLevelBotTest(String input, String expected, String description) {
+        this.input = input;
+        this.expected = expected;
+        this.description = description;
+    }
+
+    @Parameterized.Parameters
+    public static Collection fields() {
+        return Arrays.asList(new Object[][]{
+                {"X X" +
+                 "  O" +
+                 "O  ",
+                 "XXX" +
+                 "  O" +
+                 "O  ", "Bot can win in one move" },
+                {"  X" +
+                 "O  " +
+                 "OX ",
+                 "X X" +
+                 "O  " +
+                 "OX ", "Opponent can win in one move" },
+                {"X  " +
+                 "XOO" +
+                 "O X",
+                 "X X" +
+                 "XOO" +
+                 "O X", "Bot wins at once instead of later" }
+        });
+
+    }
 
     @Test
     public void hardBotShouldMoveWithLogic() {
-        //todo create tests
-        Assert.assertTrue(true);
+        Field inputField = Field.fromCells(input);
+        Field expectedField = Field.fromCells(expected);
+
+        Player botPlayer = new HardBotPlayer("X");
+        Either<String, Field> nextField = botPlayer.nextMove(inputField);
+
+        Assert.assertTrue(nextField.isRight());
+        Assert.assertEquals(description, expectedField, nextField.getRight());
+    }
+
+    @Test
+    public void hardBotShouldNeverLoseToEasyBot() {
+        for (int game = 0; game < 50; game++) {
+            boolean hardFirst = game % 2 == 0;
+            Player x = hardFirst ? new HardBotPlayer("X") : new EasyBotPlayer("X");
+            Player o = hardFirst ? new EasyBotPlayer("O") : new HardBotPlayer("O");
+
+            State state = play(Field.empty(BoardSize.CLASSIC), x, o);
+            Assert.assertNotEquals(hardFirst ? State.O_WINS : State.X_WINS, state);
+        }
+    }
+
+    @Test
+    public void hardBotShouldMoveOnLargeBoard() {
+        BoardSize boardSize = BoardSize.fromString("9x9x4").getRight();
+        Field field = Field.empty(boardSize)
+                .nextMove("5 5", "X").getRight()
+                .nextMove("5 8", "O").getRight()
+                .nextMove("5 6", "X").getRight()
+                .nextMove("6 5", "O").getRight()
+                .nextMove("5 7", "X").getRight();
+
+        HardBotPlayer botPlayer = new HardBotPlayer("O");
+        Either<String, Field> nextField = botPlayer.nextMove(field);
+
+        Assert.assertTrue(nextField.isRight());
+        Assert.assertEquals(field.nextMove("5 4", "O").getRight(), nextField.getRight());
+        Assert.assertEquals(1, botPlayer.getStatistics().getSearches());
+        Assert.assertTrue(botPlayer.getLastResult().getNodes() > 0);
+    }
+
+    @Test
+    public void hardBotShouldMoveWithinTimeBudget() {
+        BoardSize boardSize = BoardSize.fromString("15x15").getRight();
+        HardBotPlayer botPlayer = new HardBotPlayer("X", boardSize.getCells(), 1, 20);
+
+        Either<String, Field> nextField = botPlayer.nextMove(Field.empty(boardSize));
+
+        // an empty board isn't solved, so only the deadline ends the search before the full depth
+        Assert.assertTrue(nextField.isRight());
+        SearchResult result = botPlayer.getLastResult();
+        Assert.assertTrue(result.getDepth() >= 1 && result.getDepth() < boardSize.getCells());
+        Assert.assertTrue(Math.abs(result.getScore()) < NegamaxSearch.WIN_SCORE - boardSize.getCells());
+        // generous, only catches a search that ignores the deadline
+        Assert.assertTrue(result.getElapsedNanos() < 10_000_000_000L);
+    }
+
+    private static State play(Field field, Player x, Player o) {
+        Player current = x;
+        while (!field.getState().isTerminal()) {
+            field = current.nextMove(field).getRight();
+            current = current == x ? o : x;
+        }
+        return field.getState();
     }
 }
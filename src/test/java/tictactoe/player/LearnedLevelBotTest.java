@@ -0,0 +1,96 @@
+package tictactoe.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.board.State;
+import tictactoe.player.impl.EasyBotPlayer;
+import tictactoe.player.impl.HardBotPlayer;
+import tictactoe.player.impl.LearnedBotPlayer;
+import tictactoe.util.Either;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class LearnedLevelBotTest {
+    private final String input;
+    private final String expected;
+    private final String description;
+
+    public LearnedLevelBotTest(String input, String expected, String description) {
+        this.input = input;
+        this.expected = expected;
+        this.description = description;
+    }
+
+    @Parameterized.Parameters
+    public static Collection fields() {
+        return Arrays.asList(new Object[][]{
+                {"X X" +
+                 "  O" +
+                 "O  ",
+                 "XXX" +
+                 "  O" +
+                 "O  ", "Bot can win in one move" },
+                {"  X" +
+                 "O  " +
+                 "OX ",
+                 "X X" +
+                 "O  " +
+                 "OX ", "Opponent can win in one move" }
+        });
+
+    }
+
+    @Test
+    public void learnedBotShouldMoveWithLogic() {
+        Field inputField = Field.fromCells(input);
+        Field expectedField = Field.fromCells(expected);
+
+        Either<String, Field> nextField = new LearnedBotPlayer("X").nextMove(inputField);
+
+        Assert.assertTrue(nextField.isRight());
+        Assert.assertEquals(description, expectedField, nextField.getRight());
+    }
+
+    @Test
+    public void learnedBotShouldNeverLoseToEasyBot() {
+        for (int game = 0; game < 200; game++) {
+            boolean learnedFirst = game % 2 == 0;
+            Player x = learnedFirst ? new LearnedBotPlayer("X") : new EasyBotPlayer("X");
+            Player o = learnedFirst ? new EasyBotPlayer("O") : new LearnedBotPlayer("O");
+
+            State state = play(Field.empty(BoardSize.CLASSIC), x, o);
+            Assert.assertNotEquals(learnedFirst ? State.O_WINS : State.X_WINS, state);
+        }
+    }
+
+    @Test
+    public void learnedBotShouldDrawWithHardBot() {
+        Assert.assertEquals(State.DRAW, play(Field.empty(BoardSize.CLASSIC), new LearnedBotPlayer("X"), new HardBotPlayer("O")));
+        Assert.assertEquals(State.DRAW, play(Field.empty(BoardSize.CLASSIC), new HardBotPlayer("X"), new LearnedBotPlayer("O")));
+    }
+
+    @Test
+    public void learnedBotShouldMoveOnLargeBoard() {
+        Field field = Field.empty(BoardSize.fromString("7x7").getRight());
+
+        Either<String, Field> nextField = new LearnedBotPlayer("X").nextMove(field);
+
+        Assert.assertTrue(nextField.isRight());
+        Assert.assertEquals(field.getFreeCellCount() - 1, nextField.getRight().getFreeCellCount());
+    }
+
+    private static State play(Field field, Player x, Player o) {
+        Player current = x;
+        while (!field.getState().isTerminal()) {
+            field = current.nextMove(field).getRight();
+            current = current == x ? o : x;
+        }
+        return field.getState();
+    }
+}
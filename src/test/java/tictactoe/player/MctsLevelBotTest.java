@@ -0,0 +1,57 @@
+package tictactoe.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import tictactoe.board.Field;
+import tictactoe.player.impl.MctsBotPlayer;
+import tictactoe.util.Either;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class MctsLevelBotTest {
+    private final String input;
+    private final String expected;
+    private final String description;
+
+    public MctsLevelBotTest(String input, String expected, String description) {
+        this.input = input;
+        this.expected = expected;
+        this.description = description;
+    }
+
+    @Parameterized.Parameters
+    public static Collection fields() {
+        return Arrays.asList(new Object[][]{
+                {"X X" +
+                 "  O" +
+                 "O  ",
+                 "XXX" +
+                 "  O" +
+                 "O  ", "Bot can win in one move" },
+                {"  X" +
+                 "O  " +
+                 "OX ",
+                 "X X" +
+                 "O  " +
+                 "OX ", "Opponent can win in one move" }
+        });
+
+    }
+
+    @Test
+    public void mctsBotShouldMoveWithLogic() {
+        Field inputField = Field.fromCells(input);
+        Field expectedField = Field.fromCells(expected);
+
+        MctsBotPlayer botPlayer = new MctsBotPlayer("X", 2, 20_000, 10_000);
+        Either<String, Field> nextField = botPlayer.nextMove(inputField);
+
+        Assert.assertTrue(nextField.isRight());
+        Assert.assertEquals(description, expectedField, nextField.getRight());
+        Assert.assertEquals(20_000, botPlayer.getLastResult().getNodes());
+    }
+}
@@ -0,0 +1,68 @@
+package tictactoe.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+import java.util.concurrent.TimeUnit;
+
+public class IterativeDeepeningSearchTest {
+
+    @Test
+    public void shouldAnswerWithinBudgetOnAnyBoard() {
+        for (String size : new String[]{"15x15", "32x32x5"}) {
+            BoardSize boardSize = BoardSize.fromString(size).getRight();
+            Search search = new IterativeDeepeningSearch(new NegamaxSearch(new TranspositionTable(16), 0),
+                    boardSize.getCells(), TimeUnit.MILLISECONDS.toNanos(5));
+            Field field = Field.empty(boardSize);
+
+            for (int move = 0; move < 20 && !field.getState().isTerminal(); move++) {
+                String symbol = SolvedBook.toMove(field);
+                long start = System.nanoTime();
+                SearchResult result = search.search(field, symbol);
+                long elapsed = System.nanoTime() - start;
+
+                Assert.assertTrue(size + " took " + elapsed + " ns", elapsed < TimeUnit.MILLISECONDS.toNanos(100));
+                Assert.assertTrue(field.isFree(result.getMove()));
+                field = field.nextMove(result.getMove(), symbol).getRight();
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepBestSoFarMoveWithoutTime() {
+        Field field = Field.empty(BoardSize.fromString("9x9x4").getRight()).nextMove(40, "X").getRight();
+        Search search = new IterativeDeepeningSearch(new NegamaxSearch(new TranspositionTable(8), 0), 81, 0);
+
+        SearchResult result = search.search(field, "O");
+
+        Assert.assertTrue(field.isFree(result.getMove()));
+        Assert.assertTrue(result.getDepth() <= 1);
+    }
+
+    @Test
+    public void shouldStopDeepeningOnceSolved() {
+        Search search = new IterativeDeepeningSearch(new NegamaxSearch(new TranspositionTable(16), 0),
+                9, TimeUnit.SECONDS.toNanos(10));
+
+        SearchResult result = search.search(Field.fromCells("XX OO    "), "X");
+
+        Assert.assertEquals(2, result.getMove());
+        Assert.assertEquals(1, result.getDepth());
+        Assert.assertEquals(1, result.getPliesToEnd());
+    }
+
+    @Test
+    public void shouldMatchFullSearchWithEnoughTime() {
+        for (String cells : new String[]{"         ", "X   O    ", "X X O X O"}) {
+            Field field = Field.fromCells(cells);
+            String symbol = SolvedBook.toMove(field);
+            Search deepening = new IterativeDeepeningSearch(new LazySmpSearch(new TranspositionTable(16), 9, 2),
+                    9, TimeUnit.SECONDS.toNanos(10));
+
+            Assert.assertEquals(cells, new NegamaxSearch(new TranspositionTable(16), 9).search(field, symbol).getScore(),
+                    deepening.search(field, symbol).getScore());
+        }
+    }
+}
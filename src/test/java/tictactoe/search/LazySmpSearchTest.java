@@ -0,0 +1,57 @@
+package tictactoe.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+public class LazySmpSearchTest {
+
+    @Test
+    public void shouldScoreLikeSingleThread() {
+        BoardSize boardSize = BoardSize.fromString("4x4x3").getRight();
+        Field[] fields = {
+                Field.empty(BoardSize.CLASSIC),
+                Field.fromCells("X X O X O"),
+                Field.empty(boardSize),
+                Field.empty(boardSize).nextMove(5, "X").getRight().nextMove(6, "O").getRight()
+        };
+
+        for (Field field : fields) {
+            String symbol = SolvedBook.toMove(field);
+            SearchResult single = new NegamaxSearch(new TranspositionTable(16), 16).search(field, symbol);
+            SearchResult parallel = new LazySmpSearch(new TranspositionTable(16), 16, 4).search(field, symbol);
+
+            Assert.assertEquals(single.getScore(), parallel.getScore());
+            Assert.assertTrue(field.isFree(parallel.getMove()));
+        }
+    }
+
+    @Test
+    public void shouldCountNodesOfAllThreads() {
+        LazySmpSearch search = new LazySmpSearch(new TranspositionTable(16), 8, 3);
+
+        SearchResult result = search.search(Field.empty(BoardSize.fromString("5x5x4").getRight()), "X");
+
+        Assert.assertEquals(3, search.getThreads());
+        Assert.assertTrue(result.getNodes() > 0);
+        Assert.assertTrue(result.getMove() >= 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNeedAThread() {
+        new LazySmpSearch(new TranspositionTable(4), 3, 0);
+    }
+
+    @Test
+    public void shouldReplaceSlotOnCollision() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.store(0x10, 3, 42, 5, TranspositionTable.EXACT);
+
+        Assert.assertEquals(42, TranspositionTable.score(table.probe(0x10)));
+        Assert.assertEquals(TranspositionTable.MISS, table.probe(0x20));
+
+        table.store(0x20, 4, 7, 5, TranspositionTable.EXACT);
+        Assert.assertEquals(TranspositionTable.MISS, table.probe(0x10));
+    }
+}
@@ -0,0 +1,55 @@
+package tictactoe.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Coordinate;
+import tictactoe.board.Field;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class MonteCarloTreeSearchTest {
+
+    @Test
+    public void shouldSplitPlayoutsBetweenWorkers() {
+        MonteCarloTreeSearch search = new MonteCarloTreeSearch(new ForkJoinPool(3), 1_000,
+                TimeUnit.SECONDS.toNanos(10), new SplittableRandom(7));
+
+        SearchResult result = search.search(Field.empty(BoardSize.CLASSIC), "X");
+
+        Assert.assertEquals(1_000, result.getNodes());
+        Assert.assertTrue(result.getMove() >= 0);
+        Assert.assertTrue(result.getDepth() > 0);
+    }
+
+    @Test
+    public void shouldStopAtTimeBudget() {
+        BoardSize boardSize = BoardSize.fromString("15x15").getRight();
+        MonteCarloTreeSearch search = new MonteCarloTreeSearch(new ForkJoinPool(2), Integer.MAX_VALUE,
+                TimeUnit.MILLISECONDS.toNanos(50), new SplittableRandom(7));
+
+        SearchResult result = search.search(Field.empty(boardSize).nextMove("8 8", "X").getRight(), "O");
+
+        Assert.assertTrue(result.getElapsedNanos() < TimeUnit.SECONDS.toNanos(5));
+        Assert.assertTrue(result.getNodes() < Integer.MAX_VALUE);
+        assertNextToCentre(result.getMove(), boardSize);
+    }
+
+    @Test
+    public void shouldScoreLostPositionBelowZero() {
+        MonteCarloTreeSearch search = new MonteCarloTreeSearch(new ForkJoinPool(2), 5_000,
+                TimeUnit.SECONDS.toNanos(10), new SplittableRandom(7));
+
+        Assert.assertTrue(search.search(Field.fromCells("X X O X O"), "O").getScore() < 0);
+        Assert.assertEquals(-1, search.search(Field.fromCells("XXXOO    "), "O").getMove());
+    }
+
+    // on big boards only cells touching a symbol are tried
+    private static void assertNextToCentre(int move, BoardSize boardSize) {
+        int centre = boardSize.toCell(Coordinate.fromString("8 8").getRight());
+        int width = boardSize.getWidth();
+        Assert.assertTrue(Math.abs(move % width - centre % width) <= 1 && Math.abs(move / width - centre / width) <= 1);
+    }
+}
@@ -0,0 +1,59 @@
+package tictactoe.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+public class NegamaxSearchTest {
+
+    @Test
+    public void shouldScoreEmptyBoardAsDraw() {
+        SearchResult result = new NegamaxSearch(new TranspositionTable(16), 9).search(Field.empty(BoardSize.CLASSIC), "X");
+
+        Assert.assertEquals(0, result.getScore());
+        Assert.assertEquals(9, result.getDepth());
+        Assert.assertTrue(result.getMove() >= 0);
+        Assert.assertTrue(result.getNodes() > 0);
+    }
+
+    @Test
+    public void shouldCountPliesToForcedWin() {
+        NegamaxSearch search = new NegamaxSearch(new TranspositionTable(16), 9);
+
+        Assert.assertEquals(1, search.search(Field.fromCells("XX OO    "), "X").getPliesToEnd());
+        Assert.assertEquals(5, search.search(Field.fromCells("XO       "), "X").getPliesToEnd());
+        Assert.assertEquals(-2, search.search(Field.fromCells("X X O X O"), "O").getPliesToEnd());
+    }
+
+    @Test
+    public void shouldGiveSameResultWithWarmTable() {
+        TranspositionTable table = new TranspositionTable(12);
+        NegamaxSearch search = new NegamaxSearch(table, 9);
+        Field field = Field.fromCells("X   O    ");
+
+        SearchResult cold = search.search(field, "X");
+        SearchResult warm = search.search(field, "X");
+
+        Assert.assertEquals(cold.getScore(), warm.getScore());
+        Assert.assertEquals(cold.getMove(), warm.getMove());
+        Assert.assertTrue(warm.getNodes() <= cold.getNodes());
+    }
+
+    @Test
+    public void shouldReturnNoMoveWhenGameIsOver() {
+        SearchResult result = new NegamaxSearch(new TranspositionTable(4), 9).search(Field.fromCells("XXXOO    "), "O");
+
+        Assert.assertEquals(-1, result.getMove());
+    }
+
+    @Test
+    public void shouldPackTableEntries() {
+        long entry = TranspositionTable.pack(80, -9_995, 7, TranspositionTable.LOWER_BOUND);
+
+        Assert.assertEquals(80, TranspositionTable.move(entry));
+        Assert.assertEquals(-9_995, TranspositionTable.score(entry));
+        Assert.assertEquals(7, TranspositionTable.depth(entry));
+        Assert.assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+    }
+}
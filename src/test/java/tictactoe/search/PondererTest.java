@@ -0,0 +1,54 @@
+package tictactoe.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+public class PondererTest {
+    private static final BoardSize BOARD_SIZE = BoardSize.fromString("4x4x3").getRight();
+
+    @Test
+    public void shouldAnswerEveryReply() throws Exception {
+        Field field = Field.empty(BOARD_SIZE).nextMove(5, "X").getRight();
+        Ponderer ponderer = new Ponderer(new TranspositionTable(16), 4);
+
+        ponderer.start(field, "O", "X");
+        ponderer.await();
+
+        int[] replies = new int[BOARD_SIZE.getCells()];
+        int count = field.fillPossibleMoves(replies);
+        for (int i = 0; i < count; i++) {
+            Field reply = field.nextMove(replies[i], "O").getRight();
+            SearchResult expected = new NegamaxSearch(new TranspositionTable(16), 4).search(reply, "X");
+            SearchResult answer = ponderer.answer(reply);
+
+            Assert.assertNotNull(answer);
+            Assert.assertEquals(expected.getScore(), answer.getScore());
+            Assert.assertTrue(reply.isFree(answer.getMove()));
+        }
+    }
+
+    @Test
+    public void shouldNotAnswerUnknownPosition() throws Exception {
+        Field field = Field.empty(BOARD_SIZE).nextMove(5, "X").getRight();
+        Ponderer ponderer = new Ponderer(new TranspositionTable(16), 2);
+
+        ponderer.start(field, "O", "X");
+        ponderer.await();
+
+        Assert.assertNull(ponderer.answer(Field.empty(BOARD_SIZE).nextMove(6, "X").getRight()));
+    }
+
+    @Test
+    public void shouldStopThinkingWhenAsked() {
+        Field field = Field.empty(BoardSize.fromString("15x15").getRight()).nextMove(112, "X").getRight();
+        Ponderer ponderer = new Ponderer(new TranspositionTable(16), 64);
+
+        ponderer.start(field, "O", "X");
+        long start = System.nanoTime();
+        ponderer.answer(field.nextMove(113, "O").getRight());
+
+        Assert.assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+}
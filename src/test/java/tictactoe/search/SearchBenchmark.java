@@ -0,0 +1,73 @@
+package tictactoe.search;
+
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+import java.util.Arrays;
+
+/**
+ * Measures {@link LazySmpSearch} from one thread up to the given number of threads (all cores by
+ * default) and prints time, nodes per second and speedup over one thread, then the per-move latency
+ * of {@link IterativeDeepeningSearch} with a 5 ms budget over 15x15 self-play.
+ * Run with {@code ./gradlew searchBenchmark} or {@code ./gradlew searchBenchmark -Pthreads=8}.
+ */
+public class SearchBenchmark {
+    private static final String[] BOARDS = {"4x4x4", "5x5x4"};
+    private static final int[] DEPTHS = {16, 10};
+    private static final int TABLE_SIZE_BITS = 22;
+    private static final int ROUNDS = 3;
+    private static final long BUDGET_NANOS = 5_000_000;
+    private static final int LATENCY_MOVES = 1_000;
+
+    public static void main(String[] args) {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i < BOARDS.length; i++) {
+            Field field = Field.empty(BoardSize.fromString(BOARDS[i]).getRight());
+            long single = 0;
+            for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+                long best = Long.MAX_VALUE;
+                long nodes = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    SearchResult result = new LazySmpSearch(new TranspositionTable(TABLE_SIZE_BITS), DEPTHS[i], threads)
+                            .search(field, "X");
+                    if (result.getElapsedNanos() < best) {
+                        best = result.getElapsedNanos();
+                        nodes = result.getNodes();
+                    }
+                }
+                single = threads == 1 ? best : single;
+                System.out.printf("%s depth %d, %2d threads: %8.1f ms, %6.2f M nodes/s, speedup %.2f%n",
+                        BOARDS[i], DEPTHS[i], threads, best / 1_000_000.0,
+                        nodes * 1_000.0 / best, (double) single / best);
+                if (threads == maxThreads) {
+                    break;
+                }
+            }
+        }
+        measureLatency();
+    }
+
+    private static void measureLatency() {
+        BoardSize boardSize = BoardSize.fromString("15x15").getRight();
+        Search search = new IterativeDeepeningSearch(new NegamaxSearch(new TranspositionTable(TABLE_SIZE_BITS), 0),
+                boardSize.getCells(), BUDGET_NANOS);
+        long[] latencies = new long[LATENCY_MOVES];
+        Field field = Field.empty(boardSize);
+        for (int i = 0; i < LATENCY_MOVES; i++) {
+            if (field.getState().isTerminal()) {
+                field = Field.empty(boardSize);
+            }
+            String symbol = SolvedBook.toMove(field);
+            long start = System.nanoTime();
+            SearchResult result = search.search(field, symbol);
+            latencies[i] = System.nanoTime() - start;
+            field = field.nextMove(result.getMove(), symbol).getRight();
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("15x15 iterative deepening, %.0f ms budget: p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                BUDGET_NANOS / 1_000_000.0, latencies[LATENCY_MOVES / 2] / 1_000_000.0,
+                latencies[LATENCY_MOVES * 99 / 100] / 1_000_000.0, latencies[LATENCY_MOVES - 1] / 1_000_000.0);
+    }
+}
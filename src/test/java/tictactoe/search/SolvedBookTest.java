@@ -0,0 +1,59 @@
+package tictactoe.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+public class SolvedBookTest {
+
+    @Test
+    public void shipsUpToDateBook() {
+        short[] solved = BookGenerator.solve();
+        SolvedBook book = SolvedBook.classic();
+
+        for (int code = 0; code < SolvedBook.POSITIONS; code++) {
+            Assert.assertEquals("Stale book, run ./gradlew generateBook", solved[code], book.entry(code));
+        }
+        Assert.assertEquals(627, countEntries(solved));
+        Assert.assertEquals(9, book.lookup(Field.empty(BoardSize.CLASSIC), "X").getDepth());
+    }
+
+    @Test
+    public void shouldScoreLikeFullSearch() {
+        SolvedBook book = SolvedBook.classic();
+        NegamaxSearch search = new NegamaxSearch(new TranspositionTable(16), 9);
+
+        for (String cells : new String[]{"         ", "XO       ", "X X O X O", "  XO  OX ", "X   O    "}) {
+            Field field = Field.fromCells(cells);
+            String symbol = SolvedBook.toMove(field);
+            Assert.assertEquals(cells, search.search(field, symbol).getScore(), book.lookup(field, symbol).getScore());
+        }
+    }
+
+    @Test
+    public void shouldMapMovesBackFromCanonicalPosition() {
+        SolvedBook book = SolvedBook.classic();
+
+        Assert.assertEquals(2, book.lookup(Field.fromCells("XX OO    "), "X").getMove());
+        Assert.assertEquals(6, book.lookup(Field.fromCells("X  X   OO"), "X").getMove());
+        Assert.assertEquals(8, book.lookup(Field.fromCells("  O  OXX "), "X").getMove());
+    }
+
+    @Test
+    public void shouldSkipPositionsItCannotAnswer() {
+        SolvedBook book = SolvedBook.classic();
+
+        Assert.assertNull(book.lookup(Field.fromCells("XX OO    "), "O"));
+        Assert.assertNull(book.lookup(Field.fromCells("XXXOO    "), "O"));
+        Assert.assertNull(book.lookup(Field.empty(BoardSize.fromString("4x4x3").getRight()), "X"));
+    }
+
+    private static int countEntries(short[] book) {
+        int count = 0;
+        for (short entry : book) {
+            count += SolvedBook.value(entry) != 0 ? 1 : 0;
+        }
+        return count;
+    }
+}
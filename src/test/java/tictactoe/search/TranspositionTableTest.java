@@ -0,0 +1,93 @@
+package tictactoe.search;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+
+import java.util.concurrent.CompletableFuture;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void shouldKeepDeepestResultOfBucket() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.store(0x10, 1, 10, 6, TranspositionTable.EXACT);
+        table.store(0x20, 2, 20, 2, TranspositionTable.EXACT);
+        table.store(0x30, 3, 30, 1, TranspositionTable.EXACT);
+
+        Assert.assertEquals(10, TranspositionTable.score(table.probe(0x10)));
+        Assert.assertEquals(TranspositionTable.MISS, table.probe(0x20));
+        Assert.assertEquals(30, TranspositionTable.score(table.probe(0x30)));
+    }
+
+    @Test
+    public void shouldUpdateSamePositionInPlace() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.store(0x10, 1, 10, 6, TranspositionTable.EXACT);
+        table.store(0x10, 2, 20, 3, TranspositionTable.LOWER_BOUND);
+
+        long entry = table.probe(0x10);
+        Assert.assertEquals(2, TranspositionTable.move(entry));
+        Assert.assertEquals(3, TranspositionTable.depth(entry));
+        Assert.assertEquals(0, table.getReplacements());
+    }
+
+    @Test
+    public void shouldKeepScoreOfResultsDeeperThanDepthField() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.store(0x11, 5, -7, TranspositionTable.MAX_DEPTH, TranspositionTable.UPPER_BOUND);
+        table.store(0x12, 6, -7, TranspositionTable.MAX_DEPTH + 1, TranspositionTable.UPPER_BOUND);
+        table.store(0x13, 7, 300, 1000, TranspositionTable.LOWER_BOUND);
+
+        for (long key : new long[]{0x11, 0x12}) {
+            long entry = table.probe(key);
+            Assert.assertEquals(-7, TranspositionTable.score(entry));
+            Assert.assertEquals(TranspositionTable.MAX_DEPTH, TranspositionTable.depth(entry));
+            Assert.assertEquals(TranspositionTable.UPPER_BOUND, TranspositionTable.bound(entry));
+        }
+        long entry = table.probe(0x13);
+        Assert.assertEquals(7, TranspositionTable.move(entry));
+        Assert.assertEquals(300, TranspositionTable.score(entry));
+        Assert.assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+    }
+
+    @Test
+    public void shouldFitMemoryBudget() {
+        Assert.assertEquals(1 << 20, TranspositionTable.withMemoryBudget(1 << 20).getSizeBytes());
+        Assert.assertEquals(1 << 20, TranspositionTable.withMemoryBudget((1 << 21) - 1).getSizeBytes());
+        Assert.assertEquals(2 * TranspositionTable.BYTES_PER_SLOT, TranspositionTable.withMemoryBudget(0).getSizeBytes());
+        Assert.assertSame(TranspositionTable.shared(), TranspositionTable.shared());
+    }
+
+    @Test
+    public void shouldCountHitsAndCollisions() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.probe(0x10);
+        table.store(0x10, 1, 10, 6, TranspositionTable.EXACT);
+        table.probe(0x10);
+        table.probe(0x20);
+
+        Assert.assertEquals(3, table.getProbes());
+        Assert.assertEquals(1, table.getHits());
+        Assert.assertEquals(1, table.getCollisions());
+        Assert.assertEquals(1.0 / 3, table.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void shouldReuseResultsOfConcurrentGames() {
+        TranspositionTable table = new TranspositionTable(16);
+        Field field = Field.empty(BoardSize.fromString("4x4x3").getRight());
+        SearchResult expected = new NegamaxSearch(new TranspositionTable(16), 6).search(field, "X");
+
+        CompletableFuture<?>[] games = new CompletableFuture<?>[4];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = CompletableFuture.runAsync(() ->
+                    Assert.assertEquals(expected.getScore(), new NegamaxSearch(table, 6).search(field, "X").getScore()));
+        }
+        CompletableFuture.allOf(games).join();
+
+        Assert.assertTrue(table.getHits() > 0);
+        Assert.assertEquals(expected.getScore(), new NegamaxSearch(table, 6).search(field, "X").getScore());
+    }
+}
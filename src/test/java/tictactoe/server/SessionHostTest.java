@@ -0,0 +1,106 @@
+package tictactoe.server;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.Main;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+public class SessionHostTest {
+
+    @Test
+    public void shouldPlayHumanMovesOfEverySession() throws Exception {
+        try (SessionHost host = new SessionHost(Main.createCommandValidator())) {
+            List<ByteArrayOutputStream> outputs = new ArrayList<>();
+            List<Future<?>> sessions = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                outputs.add(out);
+                sessions.add(host.host(input("start user user\n1 1\n1 2\n2 1\n2 2\n3 1\nexit\n"), out));
+            }
+            for (Future<?> session : sessions) {
+                session.get();
+            }
+
+            for (ByteArrayOutputStream out : outputs) {
+                String written = out.toString(StandardCharsets.UTF_8.name());
+                Assert.assertTrue(written.startsWith("Input command: \nEnter the coordinates: \n"));
+                Assert.assertTrue(written.endsWith("X wins\nInput command: \n"));
+            }
+            Assert.assertEquals(0, host.getActiveSessions());
+        }
+    }
+
+    @Test
+    public void shouldHoldManyIdleSessions() throws Exception {
+        int sessions = 10_000;
+        CountDownLatch playersThinking = new CountDownLatch(1);
+        try (SessionHost host = new SessionHost(Main.createCommandValidator())) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < sessions; i++) {
+                running.add(host.host(new ThinkingInput(playersThinking, "start easy easy\nexit\n"),
+                        new ByteArrayOutputStream()));
+            }
+            while (host.getActiveSessions() < sessions) {
+                Thread.sleep(10);
+            }
+
+            playersThinking.countDown();
+            for (Future<?> session : running) {
+                session.get();
+            }
+            Assert.assertEquals(0, host.getActiveSessions());
+        }
+    }
+
+    @Test
+    public void shouldEndSessionWhenPlayerLeaves() throws Exception {
+        try (SessionHost host = new SessionHost(Main.createCommandValidator())) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            host.host(input("start user easy\n"), out).get();
+
+            Assert.assertEquals(0, host.getActiveSessions());
+            Assert.assertTrue(out.toString(StandardCharsets.UTF_8.name()).endsWith("Enter the coordinates: \n"));
+        }
+    }
+
+    private static InputStream input(String lines) {
+        return new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // blocks like a socket until the player is done thinking, without holding a monitor
+    private static final class ThinkingInput extends InputStream {
+        private final CountDownLatch thinking;
+        private final ByteArrayInputStream lines;
+
+        ThinkingInput(CountDownLatch thinking, String lines) {
+            this.thinking = thinking;
+            this.lines = new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0];
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            try {
+                thinking.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+            return lines.read(target, offset, length);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package tictactoe.solver;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tictactoe.board.BoardSize;
+import tictactoe.board.Field;
+import tictactoe.search.NegamaxSearch;
+import tictactoe.search.SearchResult;
+import tictactoe.search.SolvedBook;
+import tictactoe.search.TranspositionTable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+public class RetrogradeSolverTest {
+
+    @Test
+    public void shouldAgreeWithBookOnEveryClassicPosition() {
+        SolvedTable table = new RetrogradeSolver(new ForkJoinPool(2)).solve(BoardSize.CLASSIC);
+        SolvedBook book = SolvedBook.classic();
+        Deque<Field> open = new ArrayDeque<>();
+        Set<Field> seen = new HashSet<>();
+        open.add(Field.empty(BoardSize.CLASSIC));
+
+        while (!open.isEmpty()) {
+            Field field = open.poll();
+            if (!seen.add(field) || field.getState().isTerminal()) {
+                continue;
+            }
+            String symbol = (9 - field.getFreeCellCount()) % 2 == 0 ? "X" : "O";
+            SearchResult expected = book.lookup(field, symbol);
+            int value = expected.getScore() > 0 ? SolvedTable.WIN
+                    : expected.getScore() < 0 ? SolvedTable.LOSS : SolvedTable.DRAW;
+
+            Assert.assertEquals(field.getPrintableField(), value, table.value(field));
+            Assert.assertEquals(field.getPrintableField(), expected.getDepth(), table.distance(field));
+
+            int[] moves = new int[9];
+            int count = field.fillPossibleMoves(moves);
+            for (int i = 0; i < count; i++) {
+                open.add(field.nextMove(moves[i], symbol).getRight());
+            }
+        }
+        Assert.assertEquals(5478, seen.size());
+    }
+
+    @Test
+    public void shouldLabelFinishedPositions() {
+        SolvedTable table = new RetrogradeSolver(new ForkJoinPool(1)).solve(BoardSize.CLASSIC);
+
+        Assert.assertEquals(SolvedTable.LOSS, table.value(Field.fromCells("XXXOO    ")));
+        Assert.assertEquals(0, table.distance(Field.fromCells("XXXOO    ")));
+        Assert.assertEquals(SolvedTable.DRAW, table.value(Field.fromCells("XOXXOOOXX")));
+        Assert.assertEquals(SolvedTable.UNKNOWN, table.value(Field.fromCells("XXXOOO   ")));
+        Assert.assertEquals(SolvedTable.UNKNOWN, table.value(Field.fromCells("OO       ")));
+    }
+
+    @Test
+    public void shouldNotLabelFinishedPositionsNoGameReaches() {
+        BoardSize boardSize = BoardSize.fromString("3x3x2").getRight();
+        SolvedTable table = new RetrogradeSolver(new ForkJoinPool(1)).solve(boardSize);
+
+        // X's two lines have no cell in common, so the game was over before either of them was completed
+        Assert.assertEquals(SolvedTable.UNKNOWN, table.value(Field.fromCells(boardSize, "XXOO  XXO")));
+        Assert.assertEquals(-1, table.distance(Field.fromCells(boardSize, "XXOO  XXO")));
+        // any one of X's three lines was finished before the last move
+        Assert.assertEquals(SolvedTable.UNKNOWN, table.value(Field.fromCells(boardSize, "XX  X O O")));
+        Assert.assertEquals(SolvedTable.LOSS, table.value(Field.fromCells(boardSize, "XX O O  X")));
+        // both of X's lines go through the middle of the row, its last move
+        Assert.assertEquals(SolvedTable.LOSS, table.value(Field.fromCells(boardSize, "XXX   O O")));
+    }
+
+    @Test
+    public void shouldPlayPerfectlyOnSmallBoards() {
+        BoardSize boardSize = BoardSize.fromString("4x3x3").getRight();
+        SolvedTable table = new RetrogradeSolver(new ForkJoinPool(2)).solve(boardSize);
+        Field field = Field.empty(boardSize);
+        int plies = table.distance(field);
+        Assert.assertEquals(SolvedTable.WIN, table.value(field));
+
+        String symbol = "X";
+        for (int ply = 0; ply < plies; ply++) {
+            field = field.nextMove(table.bestMove(field), symbol).getRight();
+            symbol = "X".equals(symbol) ? "O" : "X";
+        }
+
+        Assert.assertEquals("X", field.getWinner());
+        Assert.assertEquals(plies, new NegamaxSearch(new TranspositionTable(16), 12)
+                .search(Field.empty(boardSize), "X").getPliesToEnd());
+    }
+
+    @Test
+    public void shouldWriteTwoBitsPerPosition() throws IOException {
+        SolvedTable table = new RetrogradeSolver(new ForkJoinPool(1)).solve(BoardSize.CLASSIC);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        table.writeTo(out);
+
+        Assert.assertTrue(out.size() * 4L >= table.getPositions());
+        Assert.assertTrue(out.size() * 4L < table.getPositions() + 10 * 32);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBigBoards() {
+        new RetrogradeSolver(new ForkJoinPool(1)).solve(BoardSize.fromString("5x5").getRight());
+    }
+}